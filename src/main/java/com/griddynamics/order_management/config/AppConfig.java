@@ -1,20 +1,20 @@
 package com.griddynamics.order_management.config;
 
-import org.modelmapper.ModelMapper;
-import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.retry.annotation.EnableRetry;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
- * Configuration class for application-wide bean definitions.
+ * Configuration class for application-wide settings.
  * <p>
- * Provides commonly used beans like {@link ModelMapper} for dependency injection.
+ * Enables scheduled background tasks and annotation-driven retries. The retry interceptor is
+ * ordered before the transaction interceptor, so every attempt runs in a fresh transaction.
+ * DTO/entity mappers are generated at compile time and registered as beans from the
+ * {@code mapper} package.
  * </p>
  */
 @Configuration
+@EnableScheduling
+@EnableRetry
 public class AppConfig {
-
-    @Bean
-    public ModelMapper modelMapper() {
-        return new ModelMapper();
-    }
 }
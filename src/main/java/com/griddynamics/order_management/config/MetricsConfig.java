@@ -0,0 +1,26 @@
+package com.griddynamics.order_management.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration of application metrics.
+ * <p>
+ * Registers the aspect behind {@link io.micrometer.core.annotation.Timed}, which times every
+ * public method of the order, product and customer services as {@code service.calls}
+ * (tagged {@code class}, {@code method} and {@code exception}). Percentile histograms,
+ * the repository timers and the Prometheus endpoint are configured in
+ * {@code application.properties}; Hikari pool and Hibernate statistics gauges are bound by
+ * Spring Boot.
+ * </p>
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+}
@@ -1,6 +1,8 @@
 package com.griddynamics.order_management.controller;
 
+import com.griddynamics.order_management.dto.CursorResponse;
 import com.griddynamics.order_management.dto.CustomerDTO;
+import com.griddynamics.order_management.dto.CustomerSummary;
 import com.griddynamics.order_management.exception.CustomerNotFoundException;
 import com.griddynamics.order_management.model.Customer;
 import com.griddynamics.order_management.service.CustomerService;
@@ -10,7 +12,9 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -52,22 +56,27 @@ public class CustomerController {
      * Retrieves a customer by their unique ID.
      *
      * @param id the ID of the customer to retrieve
-     * @return the corresponding {@link Customer} along with HTTP 200 (OK) status
+     * @return the corresponding {@link CustomerSummary} along with HTTP 200 (OK) status
      * @throws CustomerNotFoundException if no customer is found with the given ID
      */
     @GetMapping("/{id}")
-    public ResponseEntity<Customer> getCustomerById(@PathVariable Long id) throws CustomerNotFoundException {
-        Customer customer = customerService.getCustomerById(id);
+    public ResponseEntity<CustomerSummary> getCustomerById(@PathVariable Long id) throws CustomerNotFoundException {
+        CustomerSummary customer = customerService.getCustomerSummary(id);
         return new ResponseEntity<>(customer, HttpStatus.OK);
     }
 
     /**
-     * Retrieves a list of all registered customers.
+     * Retrieves a filtered, sorted page of registered customers.
+     * <p>
+     * {@code sort} accepts {@code property[,direction]} entries; because Spring splits a single
+     * comma-separated value into separate elements, a direction element applies to the
+     * property before it (so the default {@code id,asc} sorts by ID ascending).
+     * </p>
      *
-     * @return list of {@link Customer} entities along with HTTP 200 (OK) status
+     * @return page of {@link CustomerSummary} records along with HTTP 200 (OK) status
      */
     @GetMapping
-    public ResponseEntity<PaginatedResponse<Customer>> getCustomers(
+    public ResponseEntity<PaginatedResponse<CustomerSummary>> getCustomers(
             @RequestParam(required = false) String name,
             @RequestParam(required = false) String email,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate createdAfter,
@@ -75,16 +84,44 @@ public class CustomerController {
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "id,asc") String[] sort
     ) {
-        Sort sortObj = Sort.by(
-            java.util.Arrays.stream(sort)
-                .map(s -> {
-                    String[] parts = s.split(",");
-                    return parts.length == 2 ? new Sort.Order(Sort.Direction.fromString(parts[1]), parts[0]) : new Sort.Order(Sort.Direction.ASC, s);
-                })
-                .toList()
-        );
-        Pageable pageable = PageRequest.of(page, size, sortObj);
-        Page<Customer> customerPage = customerService.searchCustomers(name, email, createdAfter, pageable);
+        Pageable pageable = PageRequest.of(page, size, parseSort(sort));
+        Page<CustomerSummary> customerPage = customerService.searchCustomers(name, email, createdAfter, pageable);
         return ResponseEntity.ok(new PaginatedResponse<>(customerPage));
     }
+
+    /**
+     * Retrieves customers with keyset (cursor) pagination, ordered by name and ID.
+     *
+     * @param after the {@code next} cursor of the previous slice; omit for the first slice
+     * @param size the maximum number of customers to return (at most 1000)
+     * @return a {@link CursorResponse} of {@link CustomerSummary} records and HTTP 200 (OK)
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorResponse<CustomerSummary>> getCustomersByCursor(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "50") int size) {
+        return ResponseEntity.ok(customerService.getCustomersAfter(after, size));
+    }
+
+    /**
+     * Builds a {@link Sort} from {@code property[,direction]} entries, whether they arrive as
+     * single elements or already split at the comma.
+     */
+    private static Sort parseSort(String[] sort) {
+        List<Sort.Order> orders = new ArrayList<>();
+        for (String token : String.join(",", sort).split(",")) {
+            String value = token.trim();
+            if (value.isEmpty()) {
+                continue;
+            }
+            Optional<Sort.Direction> direction = Sort.Direction.fromOptionalString(value);
+            if (direction.isPresent() && !orders.isEmpty()) {
+                Sort.Order last = orders.remove(orders.size() - 1);
+                orders.add(last.with(direction.get()));
+            } else {
+                orders.add(Sort.Order.asc(value));
+            }
+        }
+        return Sort.by(orders);
+    }
 }
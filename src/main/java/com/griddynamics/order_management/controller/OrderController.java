@@ -1,21 +1,43 @@
 package com.griddynamics.order_management.controller;
 
+import com.griddynamics.order_management.dto.CursorResponse;
+import com.griddynamics.order_management.dto.OrderBatchDTO;
 import com.griddynamics.order_management.dto.OrderDTO;
+import com.griddynamics.order_management.dto.OrderDetail;
+import com.griddynamics.order_management.dto.OrderIntakeStatus;
+import com.griddynamics.order_management.dto.OrderPlacementResult;
 import com.griddynamics.order_management.dto.OrderStatusUpdateDTO;
+import com.griddynamics.order_management.dto.OrderSummary;
 import com.griddynamics.order_management.exception.CustomerNotFoundException;
 import com.griddynamics.order_management.exception.InsufficientStockException;
+import com.griddynamics.order_management.exception.IntakeQueueFullException;
 import com.griddynamics.order_management.exception.OrderNotFoundException;
 import com.griddynamics.order_management.exception.ProductNotFoundException;
+import com.griddynamics.order_management.exception.TrackingIdNotFoundException;
 import com.griddynamics.order_management.model.Order;
+import com.griddynamics.order_management.service.OrderExportService;
+import com.griddynamics.order_management.service.OrderGroupCommitService;
+import com.griddynamics.order_management.service.OrderIntakeService;
 import com.griddynamics.order_management.service.OrderService;
+import com.griddynamics.order_management.service.OrderStatusStreamService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.net.URI;
+import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -35,32 +57,116 @@ public class OrderController {
      */
     private final OrderService orderService;
 
+    /**
+     * Service for bulk order exports.
+     */
+    private final OrderExportService orderExportService;
+
+    /**
+     * Service for asynchronous order placement.
+     */
+    private final OrderIntakeService orderIntakeService;
+
+    /**
+     * Service for synchronous order placement, combining concurrent orders into one commit.
+     */
+    private final OrderGroupCommitService orderGroupCommitService;
+
+    /**
+     * Service for streaming order status changes.
+     */
+    private final OrderStatusStreamService orderStatusStreamService;
+
+    /**
+     * Time after which an order export that is still streaming is aborted.
+     */
+    @Value("${orders.export.timeout-ms:3600000}")
+    private long exportTimeoutMs;
+
     /**
      * Places a new order.
+     * <p>
+     * With {@code Prefer: respond-async} the validated order is only queued: the response is
+     * HTTP 202 (Accepted) with an {@link OrderIntakeStatus} and a {@code Location} to poll, and
+     * customer, product and stock checks happen when the order is placed in the background.
+     * </p>
      *
      * @param orderDTO DTO containing the order details
-     * @return the placed {@link Order} and HTTP 201 (Created)
+     * @param prefer the {@code Prefer} request header, if any
+     * @return the placed {@link Order} and HTTP 201 (Created), or the queued status and HTTP 202 (Accepted)
      * @throws CustomerNotFoundException if the specified customer does not exist
      * @throws ProductNotFoundException if any product in the order is not found
      * @throws InsufficientStockException if there is not enough stock for any product
+     * @throws IntakeQueueFullException if asynchronous placement was requested and the queue is full
      */
     @PostMapping
-    public ResponseEntity<Order> placeOrder(@Valid @RequestBody OrderDTO orderDTO)
-            throws CustomerNotFoundException, ProductNotFoundException, InsufficientStockException {
-        Order order = orderService.placeOrder(orderDTO);
+    public ResponseEntity<?> placeOrder(@Valid @RequestBody OrderDTO orderDTO,
+                                        @RequestHeader(value = "Prefer", required = false) String prefer)
+            throws CustomerNotFoundException, ProductNotFoundException, InsufficientStockException,
+            IntakeQueueFullException {
+        if (prefersAsync(prefer)) {
+            OrderIntakeStatus status = orderIntakeService.submit(orderDTO);
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/orders/intake/" + status.trackingId()))
+                    .header("Preference-Applied", "respond-async")
+                    .body(status);
+        }
+        Order order = orderGroupCommitService.placeOrder(orderDTO);
         return new ResponseEntity<>(order, HttpStatus.CREATED);
     }
 
+    /**
+     * Retrieves the status of an order submitted with {@code Prefer: respond-async}.
+     *
+     * @param trackingId the tracking ID returned on submission
+     * @return the {@link OrderIntakeStatus} and HTTP 200 (OK)
+     * @throws TrackingIdNotFoundException if the tracking ID is unknown or has expired
+     */
+    @GetMapping("/intake/{trackingId}")
+    public ResponseEntity<OrderIntakeStatus> getIntakeStatus(@PathVariable String trackingId)
+            throws TrackingIdNotFoundException {
+        return ResponseEntity.ok(orderIntakeService.getStatus(trackingId));
+    }
+
+    /**
+     * Tells whether a {@code Prefer} header (RFC 7240) asks for asynchronous processing.
+     */
+    private static boolean prefersAsync(String prefer) {
+        return prefer != null && Arrays.stream(prefer.split(","))
+                .map(preference -> preference.split(";", 2)[0].trim())
+                .anyMatch("respond-async"::equalsIgnoreCase);
+    }
+
+    /**
+     * Places a batch of orders in a single transaction.
+     *
+     * @param batchDTO DTO containing the orders to place
+     * @param atomic if {@code true}, the whole batch fails when any order fails;
+     *               otherwise each order succeeds or fails independently
+     * @return one {@link OrderPlacementResult} per submitted order and HTTP 200 (OK)
+     * @throws CustomerNotFoundException if {@code atomic} and a customer does not exist
+     * @throws ProductNotFoundException if {@code atomic} and a product is not found
+     * @throws InsufficientStockException if {@code atomic} and there is not enough stock for a product
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<List<OrderPlacementResult>> placeOrders(
+            @Valid @RequestBody OrderBatchDTO batchDTO,
+            @RequestParam(defaultValue = "false") boolean atomic)
+            throws CustomerNotFoundException, ProductNotFoundException, InsufficientStockException {
+        List<OrderPlacementResult> results = orderService.placeOrders(batchDTO.getOrders(), atomic);
+        return ResponseEntity.ok(results);
+    }
+
     /**
      * Retrieves an order by its ID.
      *
      * @param id the ID of the order to retrieve
-     * @return the corresponding {@link Order} and HTTP 200 (OK)
+     * @return the corresponding {@link OrderDetail} and HTTP 200 (OK)
      * @throws OrderNotFoundException if the order does not exist
      */
     @GetMapping("/{id}")
-    public ResponseEntity<Order> getOrderById(@PathVariable Long id) throws OrderNotFoundException {
-        Order order = orderService.getOrderById(id);
+    public ResponseEntity<OrderDetail> getOrderById(@PathVariable Long id) throws OrderNotFoundException {
+        OrderDetail order = orderService.getOrderDetail(id);
         return ResponseEntity.ok(order);
     }
 
@@ -97,25 +203,88 @@ public class OrderController {
      * Retrieves all orders placed by a specific customer.
      *
      * @param customerId the ID of the customer
-     * @return list of {@link Order} entities for the customer and HTTP 200 (OK)
+     * @return list of {@link OrderSummary} records for the customer and HTTP 200 (OK)
      * @throws CustomerNotFoundException if the customer does not exist
      */
     @GetMapping("/customers/{customerId}")
-    public ResponseEntity<List<Order>> getOrdersByCustomerId(@PathVariable Long customerId)
+    public ResponseEntity<List<OrderSummary>> getOrdersByCustomerId(@PathVariable Long customerId)
             throws CustomerNotFoundException {
-        List<Order> orders = orderService.getOrdersByCustomerId(customerId);
+        List<OrderSummary> orders = orderService.getOrdersByCustomerId(customerId);
         return ResponseEntity.ok(orders);
     }
 
+    /**
+     * Streams the status changes of an order as Server-Sent Events, starting with its current status.
+     *
+     * @param id the ID of the order
+     * @return an event stream of {@code status} events
+     * @throws OrderNotFoundException if the order does not exist
+     */
+    @GetMapping(value = "/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamOrderStatus(@PathVariable Long id) throws OrderNotFoundException {
+        return orderStatusStreamService.subscribeToOrder(id);
+    }
+
+    /**
+     * Streams the status changes of all orders of a customer as Server-Sent Events.
+     *
+     * @param customerId the ID of the customer
+     * @return an event stream of {@code status} events
+     * @throws CustomerNotFoundException if the customer does not exist
+     */
+    @GetMapping(value = "/customers/{customerId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamCustomerOrderStatus(@PathVariable Long customerId) throws CustomerNotFoundException {
+        return orderStatusStreamService.subscribeToCustomer(customerId);
+    }
+
     /**
      * Retrieves a paginated list of orders in the system.
      *
      * @param pageable the pagination information (page, size, sort)
-     * @return page of {@link Order} entities and HTTP 200 (OK)
+     * @return page of {@link OrderSummary} records and HTTP 200 (OK)
      */
     @GetMapping("/paged")
-    public ResponseEntity<Page<Order>> getAllOrdersPaged(Pageable pageable) {
-        Page<Order> orders = orderService.getAllOrders(pageable);
+    public ResponseEntity<Page<OrderSummary>> getAllOrdersPaged(Pageable pageable) {
+        Page<OrderSummary> orders = orderService.getAllOrders(pageable);
         return new ResponseEntity<>(orders, HttpStatus.OK);
     }
+
+    /**
+     * Retrieves orders with keyset (cursor) pagination, ordered by order date and ID.
+     * Suited to walking all orders: each slice costs the same regardless of its position,
+     * and no total count is computed.
+     *
+     * @param after the {@code next} cursor of the previous slice; omit for the first slice
+     * @param size the maximum number of orders to return (at most 1000)
+     * @return a {@link CursorResponse} of {@link OrderSummary} records and HTTP 200 (OK)
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorResponse<OrderSummary>> getOrdersByCursor(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "50") int size) {
+        return ResponseEntity.ok(orderService.getOrdersAfter(after, size));
+    }
+
+    /**
+     * Exports all orders placed in {@code [from, to)} with their items as NDJSON
+     * (one JSON object per line). The response is streamed while the orders are read,
+     * so exports of any size start immediately and use constant memory. The stream may run
+     * for up to {@code orders.export.timeout-ms}, unlike other asynchronous requests.
+     *
+     * @param from inclusive lower bound of the order date (ISO date-time)
+     * @param to exclusive upper bound of the order date (ISO date-time)
+     * @param request the current request, whose asynchronous timeout is extended
+     * @return the streamed export and HTTP 200 (OK)
+     */
+    @GetMapping(value = "/export", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> exportOrders(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            NativeWebRequest request) {
+        WebAsyncUtils.getAsyncManager(request).getAsyncWebRequest().setTimeout(exportTimeoutMs);
+        StreamingResponseBody body = out -> orderExportService.exportOrders(from, to, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .body(body);
+    }
 }
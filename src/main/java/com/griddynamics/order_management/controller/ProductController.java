@@ -1,19 +1,30 @@
 package com.griddynamics.order_management.controller;
 
+import com.griddynamics.order_management.dto.CursorResponse;
+import com.griddynamics.order_management.dto.ProductChanges;
 import com.griddynamics.order_management.dto.ProductDTO;
+import com.griddynamics.order_management.dto.ProductImportResult;
+import com.griddynamics.order_management.dto.ProductListItem;
 import com.griddynamics.order_management.dto.StockUpdateDTO;
 import com.griddynamics.order_management.exception.ProductNotFoundException;
 import com.griddynamics.order_management.model.Product;
+import com.griddynamics.order_management.service.CatalogSnapshotService;
+import com.griddynamics.order_management.service.ProductChangeService;
+import com.griddynamics.order_management.service.ProductImportService;
 import com.griddynamics.order_management.service.ProductService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
+import java.io.IOException;
+import java.io.InputStream;
 
 /**
  * REST controller for managing product-related operations.
@@ -32,6 +43,21 @@ public class ProductController {
      */
     private final ProductService productService;
 
+    /**
+     * Service for bulk catalog imports.
+     */
+    private final ProductImportService productImportService;
+
+    /**
+     * Pre-serialized catalog served by {@link #getAllProducts(String, String)}.
+     */
+    private final CatalogSnapshotService catalogSnapshotService;
+
+    /**
+     * Service for incremental catalog sync.
+     */
+    private final ProductChangeService productChangeService;
+
     /**
      * Creates a new product in the system.
      *
@@ -45,25 +71,69 @@ public class ProductController {
     }
 
     /**
-     * Retrieves a list of all products available in the system.
+     * Imports products in bulk from an NDJSON or CSV request body.
+     * The body is streamed, so files of any size can be imported with constant memory.
      *
-     * @return list of {@link Product} entities and HTTP 200 (OK)
+     * @param contentType {@code application/x-ndjson} or {@code text/csv}
+     * @param body the request body
+     * @return the {@link ProductImportResult} with per-row errors and HTTP 200 (OK)
+     * @throws IOException if the request body cannot be read
+     */
+    @PostMapping(value = "/import", consumes = {"application/x-ndjson", "text/csv"})
+    public ResponseEntity<ProductImportResult> importProducts(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body) throws IOException {
+        ProductImportService.Format format = MediaType.parseMediaType(contentType).isCompatibleWith(MediaType.valueOf("text/csv"))
+                ? ProductImportService.Format.CSV
+                : ProductImportService.Format.NDJSON;
+        ProductImportResult result = productImportService.importProducts(body, format);
+        return new ResponseEntity<>(result, HttpStatus.OK);
+    }
+
+    /**
+     * Retrieves a list of all products available in the system as a JSON array of
+     * {@link ProductListItem} records.
+     * <p>
+     * The body comes from the current catalog snapshot and is sent gzip-encoded when the
+     * client accepts it. A request whose {@code If-None-Match} matches the snapshot's
+     * entity tag is answered with HTTP 304 without touching the database.
+     * </p>
+     *
+     * @param ifNoneMatch the entity tags the client already has, if any
+     * @param acceptEncoding the encodings the client accepts, if any
+     * @return the serialized catalog and HTTP 200 (OK), or HTTP 304 (Not Modified)
      */
     @GetMapping
-    public ResponseEntity<List<Product>> getAllProducts() {
-        List<Product> products = productService.getAllProducts();
-        return new ResponseEntity<>(products, HttpStatus.OK);
+    public ResponseEntity<byte[]> getAllProducts(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        CatalogSnapshotService.Snapshot snapshot = catalogSnapshotService.current();
+        boolean gzip = acceptsGzip(acceptEncoding);
+        String etag = gzip ? snapshot.gzipEtag() : snapshot.etag();
+
+        boolean notModified = matches(ifNoneMatch, snapshot);
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(notModified ? HttpStatus.NOT_MODIFIED : HttpStatus.OK)
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (notModified) {
+            return builder.build();
+        }
+        if (gzip) {
+            builder.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return builder.contentType(MediaType.APPLICATION_JSON).body(gzip ? snapshot.gzip() : snapshot.json());
     }
 
     /**
      * Retrieves a paginated list of products available in the system.
      *
      * @param pageable the pagination information (page, size, sort)
-     * @return page of {@link Product} entities and HTTP 200 (OK)
+     * @return page of {@link ProductListItem} records and HTTP 200 (OK)
      */
     @GetMapping("/paged")
-    public ResponseEntity<Page<Product>> getAllProductsPaged(Pageable pageable) {
-        Page<Product> products = productService.getAllProducts(pageable);
+    public ResponseEntity<Page<ProductListItem>> getAllProductsPaged(Pageable pageable) {
+        Page<ProductListItem> products = productService.getAllProducts(pageable);
         return new ResponseEntity<>(products, HttpStatus.OK);
     }
 
@@ -83,4 +153,68 @@ public class ProductController {
         Product product = productService.updateProductStock(id, stockUpdateDTO);
         return new ResponseEntity<>(product, HttpStatus.OK);
     }
+
+    /**
+     * Retrieves products with keyset (cursor) pagination, ordered by name and ID.
+     *
+     * @param after the {@code next} cursor of the previous slice; omit for the first slice
+     * @param size the maximum number of products to return (at most 1000)
+     * @return a {@link CursorResponse} of {@link ProductListItem} records and HTTP 200 (OK)
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorResponse<ProductListItem>> getProductsByCursor(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "50") int size) {
+        return ResponseEntity.ok(productService.getProductsAfter(after, size));
+    }
+
+    /**
+     * Retrieves the products changed after a change version, for clients that mirror the catalog.
+     * Changes become visible within {@code products.changes.stamp-interval-ms} of their commit.
+     *
+     * @param since the {@code nextVersion} of the previous response; {@code 0} for a full sync
+     * @param limit the maximum number of products to return (at most 1000)
+     * @return the {@link ProductChanges} and HTTP 200 (OK)
+     */
+    @GetMapping("/changes")
+    public ResponseEntity<ProductChanges> getProductChanges(
+            @RequestParam(defaultValue = "0") long since,
+            @RequestParam(defaultValue = "500") int limit) {
+        return ResponseEntity.ok(productChangeService.getChangesSince(since, limit));
+    }
+
+    /**
+     * Checks whether {@code If-None-Match} names either representation of the snapshot.
+     */
+    private static boolean matches(String ifNoneMatch, CatalogSnapshotService.Snapshot snapshot) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String tag : ifNoneMatch.split(",")) {
+            String candidate = tag.trim();
+            if (candidate.startsWith("W/")) {
+                candidate = candidate.substring(2);
+            }
+            if (candidate.equals("*") || candidate.equals(snapshot.etag()) || candidate.equals(snapshot.gzipEtag())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether {@code Accept-Encoding} allows gzip with a non-zero quality.
+     */
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length < 2 || !parts[1].trim().matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
 }
@@ -0,0 +1,29 @@
+package com.griddynamics.order_management.dto;
+
+import java.util.List;
+
+/**
+ * Response for keyset (cursor) pagination.
+ * <p>
+ * Unlike {@link PaginatedResponse}, no total count is computed. Pass {@link #getNext()} as the
+ * {@code after} parameter to fetch the following slice; it is {@code null} on the last slice.
+ * </p>
+ *
+ * @param <T> the type of the returned elements
+ */
+public class CursorResponse<T> {
+    private List<T> content;
+    private int size;
+    private String next;
+
+    public CursorResponse(List<T> content, String next) {
+        this.content = content;
+        this.size = content.size();
+        this.next = next;
+    }
+
+    public List<T> getContent() { return content; }
+    public int getSize() { return size; }
+    public String getNext() { return next; }
+    public boolean isHasNext() { return next != null; }
+}
@@ -0,0 +1,11 @@
+package com.griddynamics.order_management.dto;
+
+/**
+ * Read model of a customer for list endpoints.
+ *
+ * @param id the ID of the customer
+ * @param name the name of the customer
+ * @param email the email address of the customer
+ */
+public record CustomerSummary(Long id, String name, String email) {
+}
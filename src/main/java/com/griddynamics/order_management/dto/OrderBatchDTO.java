@@ -0,0 +1,28 @@
+package com.griddynamics.order_management.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) for placing several orders in one request.
+ * <p>
+ * Wraps the list of orders so that request validation errors are reported
+ * in the same format as for a single order.
+ * </p>
+ */
+@Data
+public class OrderBatchDTO {
+
+    /**
+     * Orders to place, processed in list order.
+     * This field is required and may contain at most 1000 orders.
+     */
+    @NotEmpty(message = "At least one order is required")
+    @Size(max = 1000, message = "A batch may contain at most 1000 orders")
+    @Valid
+    private List<OrderDTO> orders;
+}
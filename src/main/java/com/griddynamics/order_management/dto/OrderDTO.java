@@ -1,6 +1,7 @@
 package com.griddynamics.order_management.dto;
 
 import com.griddynamics.order_management.model.Order;
+import jakarta.validation.Valid;
 import lombok.Data;
 
 import java.time.LocalDateTime;
@@ -38,6 +39,8 @@ public class OrderDTO {
 
     /**
      * List of items included in the order.
+     * Each item is validated when the order is validated.
      */
+    @Valid
     private List<OrderItemDTO> orderItems;
 }
@@ -0,0 +1,36 @@
+package com.griddynamics.order_management.dto;
+
+import com.griddynamics.order_management.model.Order;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Read model of a single order with its items, assembled from {@link OrderDetailRow}s.
+ *
+ * @param id the ID of the order
+ * @param customerId the ID of the customer who placed the order
+ * @param customerName the name of the customer
+ * @param orderDate the date and time the order was placed
+ * @param status the current status of the order
+ * @param items the items of the order, ordered by ID
+ */
+public record OrderDetail(Long id,
+                          Long customerId,
+                          String customerName,
+                          LocalDateTime orderDate,
+                          Order.OrderStatus status,
+                          List<Item> items) {
+
+    /**
+     * One item of an order.
+     *
+     * @param id the ID of the order item
+     * @param productId the ID of the ordered product
+     * @param productName the name of the ordered product
+     * @param quantity the ordered quantity
+     * @param priceAtPurchase the unit price at the time of purchase
+     */
+    public record Item(Long id, Long productId, String productName, int quantity, double priceAtPurchase) {
+    }
+}
@@ -0,0 +1,35 @@
+package com.griddynamics.order_management.dto;
+
+import com.griddynamics.order_management.model.Order;
+
+import java.time.LocalDateTime;
+
+/**
+ * Flat projection of one order line used to build an {@link OrderDetail} in a single query.
+ * <p>
+ * One row is produced per order item; an order without items produces a single row
+ * whose item fields are {@code null}.
+ * </p>
+ *
+ * @param orderId the ID of the order
+ * @param customerId the ID of the customer who placed the order
+ * @param customerName the name of the customer
+ * @param orderDate the date and time the order was placed
+ * @param status the current status of the order
+ * @param itemId the ID of the order item, or {@code null}
+ * @param productId the ID of the ordered product, or {@code null}
+ * @param productName the name of the ordered product, or {@code null}
+ * @param quantity the ordered quantity, or {@code null}
+ * @param priceAtPurchase the unit price at the time of purchase, or {@code null}
+ */
+public record OrderDetailRow(Long orderId,
+                             Long customerId,
+                             String customerName,
+                             LocalDateTime orderDate,
+                             Order.OrderStatus status,
+                             Long itemId,
+                             Long productId,
+                             String productName,
+                             Integer quantity,
+                             Double priceAtPurchase) {
+}
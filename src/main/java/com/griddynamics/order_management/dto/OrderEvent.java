@@ -0,0 +1,56 @@
+package com.griddynamics.order_management.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import com.griddynamics.order_management.model.Order;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * An order change as delivered from the transactional outbox to downstream systems.
+ * <p>
+ * Delivery is at-least-once: consumers must tolerate duplicates, which carry the same
+ * {@code eventId}. Events of the same order are delivered in the order they were made,
+ * and {@code eventId} grows with them.
+ * </p>
+ *
+ * @param eventId the unique ID of the event
+ * @param orderId the ID of the order, usable as partition key
+ * @param type the kind of change
+ * @param occurredAt the date and time of the change
+ * @param payload the {@link Details} of the change as JSON
+ */
+public record OrderEvent(Long eventId,
+                         Long orderId,
+                         Type type,
+                         LocalDateTime occurredAt,
+                         @JsonRawValue String payload) {
+
+    /**
+     * Kinds of order changes.
+     */
+    public enum Type {
+        /** The order was placed; the details include its items. */
+        ORDER_PLACED,
+        /** The order moved to a status other than cancelled. */
+        ORDER_STATUS_CHANGED,
+        /** The order was cancelled and its stock returned. */
+        ORDER_CANCELLED
+    }
+
+    /**
+     * Details of an order change.
+     *
+     * @param customerId the ID of the customer who placed the order
+     * @param previousStatus the status before the change, {@code null} for placements
+     * @param status the status after the change
+     * @param items the items of the order, only for placements
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record Details(Long customerId,
+                          Order.OrderStatus previousStatus,
+                          Order.OrderStatus status,
+                          List<OrderDetail.Item> items) {
+    }
+}
@@ -0,0 +1,73 @@
+package com.griddynamics.order_management.dto;
+
+import com.griddynamics.order_management.model.Order;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) written as one NDJSON line per order by the order export.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderExportRecord {
+
+    /**
+     * Unique identifier of the order.
+     */
+    private Long id;
+
+    /**
+     * ID of the customer who placed the order.
+     */
+    private Long customerId;
+
+    /**
+     * Timestamp indicating when the order was placed.
+     */
+    private LocalDateTime orderDate;
+
+    /**
+     * Current status of the order.
+     */
+    private Order.OrderStatus status;
+
+    /**
+     * Items included in the order.
+     */
+    private List<Item> items = new ArrayList<>();
+
+    /**
+     * One exported order item.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+
+        /**
+         * Unique identifier of the order item.
+         */
+        private Long id;
+
+        /**
+         * ID of the ordered product.
+         */
+        private Long productId;
+
+        /**
+         * Ordered quantity.
+         */
+        private int quantity;
+
+        /**
+         * Unit price at the time of purchase.
+         */
+        private double priceAtPurchase;
+    }
+}
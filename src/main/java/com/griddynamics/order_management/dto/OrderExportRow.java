@@ -0,0 +1,31 @@
+package com.griddynamics.order_management.dto;
+
+import com.griddynamics.order_management.model.Order;
+
+import java.time.LocalDateTime;
+
+/**
+ * Flat projection of one order line used by the order export.
+ * <p>
+ * One row is produced per order item; orders without items produce a single row
+ * whose item fields are {@code null}.
+ * </p>
+ *
+ * @param orderId the ID of the order
+ * @param customerId the ID of the customer who placed the order
+ * @param orderDate the date and time the order was placed
+ * @param status the current status of the order
+ * @param itemId the ID of the order item, or {@code null}
+ * @param productId the ID of the ordered product, or {@code null}
+ * @param quantity the ordered quantity, or {@code null}
+ * @param priceAtPurchase the unit price at the time of purchase, or {@code null}
+ */
+public record OrderExportRow(Long orderId,
+                             Long customerId,
+                             LocalDateTime orderDate,
+                             Order.OrderStatus status,
+                             Long itemId,
+                             Long productId,
+                             Integer quantity,
+                             Double priceAtPurchase) {
+}
@@ -0,0 +1,42 @@
+package com.griddynamics.order_management.dto;
+
+import java.time.Instant;
+
+/**
+ * Status of an order submitted for asynchronous placement.
+ * <p>
+ * Returned with HTTP 202 when the order is accepted into the intake queue, and by the
+ * status endpoint until the order has been placed or rejected.
+ * </p>
+ *
+ * @param trackingId the ID to poll the status with
+ * @param state the processing state
+ * @param orderId the ID of the placed order, or {@code null} unless {@code PLACED}
+ * @param error the reason the order was not placed, or {@code null}
+ * @param submittedAt when the order was accepted into the queue
+ * @param completedAt when processing finished, or {@code null} while queued
+ */
+public record OrderIntakeStatus(String trackingId, State state, Long orderId, String error,
+                                Instant submittedAt, Instant completedAt) {
+
+    /**
+     * Processing state of a submitted order.
+     */
+    public enum State {
+        /** Waiting in the intake queue. */
+        QUEUED,
+        /** The order was placed and stock was reserved. */
+        PLACED,
+        /** The order was refused, e.g. for an unknown product or insufficient stock. */
+        REJECTED,
+        /** Placement failed for a reason unrelated to the order itself and may be resubmitted. */
+        FAILED
+    }
+
+    /**
+     * Returns the final status of this submission.
+     */
+    public OrderIntakeStatus complete(State state, Long orderId, String error) {
+        return new OrderIntakeStatus(trackingId, state, orderId, error, submittedAt, Instant.now());
+    }
+}
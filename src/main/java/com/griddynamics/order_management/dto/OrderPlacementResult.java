@@ -0,0 +1,47 @@
+package com.griddynamics.order_management.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object (DTO) describing the outcome of one order in a batch placement.
+ * <p>
+ * Results are returned in the same order as the submitted orders.
+ * </p>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderPlacementResult {
+
+    /**
+     * Position of the order in the submitted batch.
+     */
+    private int index;
+
+    /**
+     * ID of the created order, or {@code null} if it was rejected.
+     */
+    private Long orderId;
+
+    /**
+     * Whether the order was created or rejected.
+     */
+    private Status status;
+
+    /**
+     * Reason the order was rejected, or {@code null} if it was created.
+     */
+    private String error;
+
+    /**
+     * Outcome of a single order placement.
+     */
+    public enum Status {
+        /** The order was placed and stock was reserved. */
+        CREATED,
+        /** The order was not placed; no stock was reserved for it. */
+        REJECTED
+    }
+}
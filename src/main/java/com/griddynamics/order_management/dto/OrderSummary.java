@@ -0,0 +1,25 @@
+package com.griddynamics.order_management.dto;
+
+import com.griddynamics.order_management.model.Order;
+
+import java.time.LocalDateTime;
+
+/**
+ * Read model of an order for list endpoints, selected directly by a constructor projection.
+ *
+ * @param id the ID of the order
+ * @param customerId the ID of the customer who placed the order
+ * @param customerName the name of the customer
+ * @param orderDate the date and time the order was placed
+ * @param status the current status of the order
+ * @param itemCount the number of items in the order
+ * @param totalAmount the sum of quantity times purchase price over all items
+ */
+public record OrderSummary(Long id,
+                           Long customerId,
+                           String customerName,
+                           LocalDateTime orderDate,
+                           Order.OrderStatus status,
+                           long itemCount,
+                           double totalAmount) {
+}
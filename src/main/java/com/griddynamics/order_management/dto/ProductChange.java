@@ -0,0 +1,15 @@
+package com.griddynamics.order_management.dto;
+
+/**
+ * Read model of a product for incremental catalog sync.
+ *
+ * @param id the ID of the product
+ * @param name the name of the product
+ * @param description the description of the product
+ * @param price the current unit price
+ * @param stockQuantity the units currently in stock
+ * @param version the change version of this state of the product
+ */
+public record ProductChange(Long id, String name, String description, double price, int stockQuantity,
+                            long version) {
+}
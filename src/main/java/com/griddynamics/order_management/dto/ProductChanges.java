@@ -0,0 +1,17 @@
+package com.griddynamics.order_management.dto;
+
+import java.util.List;
+
+/**
+ * Response of the incremental catalog sync endpoint.
+ * <p>
+ * Pass {@link #nextVersion()} as {@code since} on the next call. When {@link #hasMore()} is
+ * {@code false} the client is up to date and can poll again later with the same watermark.
+ * </p>
+ *
+ * @param changes the products changed after the requested version, in version order
+ * @param nextVersion the watermark to resume from
+ * @param hasMore whether more changes are available right away
+ */
+public record ProductChanges(List<ProductChange> changes, long nextVersion, boolean hasMore) {
+}
@@ -0,0 +1,82 @@
+package com.griddynamics.order_management.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) summarizing a bulk product import.
+ * <p>
+ * Contains the row counters and the per-row errors. Only the first
+ * {@link #MAX_ERRORS} errors are kept so that the report stays small
+ * regardless of the size of the imported file.
+ * </p>
+ */
+@Data
+public class ProductImportResult {
+
+    /**
+     * Maximum number of row errors included in the report.
+     */
+    public static final int MAX_ERRORS = 1000;
+
+    /**
+     * Number of data rows read from the input.
+     */
+    private long processed;
+
+    /**
+     * Number of products created.
+     */
+    private long created;
+
+    /**
+     * Number of existing products updated.
+     */
+    private long updated;
+
+    /**
+     * Number of rows that were rejected.
+     */
+    private long failed;
+
+    /**
+     * Errors of the rejected rows, up to {@link #MAX_ERRORS} entries.
+     */
+    private List<RowError> errors = new ArrayList<>();
+
+    /**
+     * Records a rejected row.
+     *
+     * @param line the 1-based line number of the row in the input
+     * @param message the reason the row was rejected
+     */
+    public void addError(long line, String message) {
+        failed++;
+        if (errors.size() < MAX_ERRORS) {
+            errors.add(new RowError(line, message));
+        }
+    }
+
+    /**
+     * Error reported for a single input row.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowError {
+
+        /**
+         * The 1-based line number of the row in the input.
+         */
+        private long line;
+
+        /**
+         * The reason the row was rejected.
+         */
+        private String message;
+    }
+}
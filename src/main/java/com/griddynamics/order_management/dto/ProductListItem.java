@@ -0,0 +1,13 @@
+package com.griddynamics.order_management.dto;
+
+/**
+ * Read model of a product for catalog list endpoints.
+ * The description is left out; it is the only unbounded column of a product.
+ *
+ * @param id the ID of the product
+ * @param name the name of the product
+ * @param price the current unit price
+ * @param stockQuantity the units currently in stock
+ */
+public record ProductListItem(Long id, String name, double price, int stockQuantity) {
+}
@@ -0,0 +1,18 @@
+package com.griddynamics.order_management.event;
+
+import com.griddynamics.order_management.dto.OrderEvent;
+
+import java.util.List;
+
+/**
+ * Application event carrying a batch of order events relayed from the outbox
+ * ({@code orders.outbox.sink=listener}).
+ * <p>
+ * It is published synchronously by the relay, outside any transaction: a listener that
+ * throws makes the whole batch be delivered again.
+ * </p>
+ *
+ * @param events the relayed events, in outbox order
+ */
+public record OrderEventsRelayedEvent(List<OrderEvent> events) {
+}
@@ -0,0 +1,26 @@
+package com.griddynamics.order_management.event;
+
+import com.griddynamics.order_management.model.Order;
+
+import java.time.LocalDateTime;
+
+/**
+ * Application event published whenever the status of an order changes, including cancellation.
+ * <p>
+ * Listeners should react to it after the publishing transaction commits, e.g. with
+ * {@code @TransactionalEventListener(fallbackExecution = true)}. It is also the payload of the
+ * {@code status} events streamed to subscribers of {@code /api/orders/.../events}.
+ * </p>
+ *
+ * @param orderId the ID of the order
+ * @param customerId the ID of the customer who placed the order
+ * @param previousStatus the status before the change
+ * @param status the status after the change
+ * @param changedAt the date and time of the change
+ */
+public record OrderStatusChangedEvent(Long orderId,
+                                      Long customerId,
+                                      Order.OrderStatus previousStatus,
+                                      Order.OrderStatus status,
+                                      LocalDateTime changedAt) {
+}
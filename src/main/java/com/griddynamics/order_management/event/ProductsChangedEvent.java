@@ -0,0 +1,16 @@
+package com.griddynamics.order_management.event;
+
+import java.util.Collection;
+
+/**
+ * Application event published whenever products or their stock change.
+ * <p>
+ * Listeners that derive data from the {@code products} table should react to it after
+ * the publishing transaction commits, e.g. with
+ * {@code @TransactionalEventListener(fallbackExecution = true)}.
+ * </p>
+ *
+ * @param productIds the IDs of the changed products
+ */
+public record ProductsChangedEvent(Collection<Long> productIds) {
+}
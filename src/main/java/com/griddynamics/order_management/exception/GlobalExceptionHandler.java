@@ -1,5 +1,7 @@
 package com.griddynamics.order_management.exception;
 
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -36,7 +38,7 @@ public class GlobalExceptionHandler {
     }
 
     /**
-     * Handles not-found exceptions such as Customer, Product, or Order not found.
+     * Handles not-found exceptions such as Customer, Product, Order, or tracking ID not found.
      *
      * @param ex the exception indicating a missing resource
      * @return error message with HTTP 404 status
@@ -44,7 +46,8 @@ public class GlobalExceptionHandler {
     @ExceptionHandler({
             CustomerNotFoundException.class,
             ProductNotFoundException.class,
-            OrderNotFoundException.class
+            OrderNotFoundException.class,
+            TrackingIdNotFoundException.class
     })
     @ResponseStatus(HttpStatus.NOT_FOUND)
     public ResponseEntity<String> handleNotFoundException(RuntimeException ex) {
@@ -63,6 +66,57 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(ex.getMessage());
     }
 
+    /**
+     * Handles malformed pagination cursors.
+     *
+     * @param ex the exception describing the invalid cursor
+     * @return error message with HTTP 400 status
+     */
+    @ExceptionHandler(InvalidCursorException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ResponseEntity<String> handleInvalidCursorException(InvalidCursorException ex) {
+        return ResponseEntity.badRequest().body(ex.getMessage());
+    }
+
+    /**
+     * Handles orders refused by the asynchronous intake because its queue is full.
+     *
+     * @param ex the exception signalling backpressure
+     * @return error message with HTTP 429 status and a {@code Retry-After} header
+     */
+    @ExceptionHandler(IntakeQueueFullException.class)
+    @ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+    public ResponseEntity<String> handleIntakeQueueFullException(IntakeQueueFullException ex) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(ex.getMessage());
+    }
+
+    /**
+     * Handles synchronous order placements that did not complete in time.
+     *
+     * @param ex the exception describing the timeout
+     * @return error message with HTTP 503 status
+     */
+    @ExceptionHandler(OrderPlacementTimeoutException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public ResponseEntity<String> handleOrderPlacementTimeoutException(OrderPlacementTimeoutException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(ex.getMessage());
+    }
+
+    /**
+     * Handles optimistic locking conflicts that persisted through all retry attempts.
+     *
+     * @param ex the exception describing the conflict
+     * @return error message with HTTP 409 status
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ResponseEntity<String> handleOptimisticLockingFailureException(OptimisticLockingFailureException ex) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body("The resource was modified concurrently, please retry: " + ex.getMessage());
+    }
+
     /**
      * Handles all uncaught exceptions and returns a generic error response.
      *
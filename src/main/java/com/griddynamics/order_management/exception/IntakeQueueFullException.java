@@ -0,0 +1,20 @@
+package com.griddynamics.order_management.exception;
+
+/**
+ * Exception thrown when an order cannot be accepted for asynchronous placement
+ * because the intake queue is full.
+ * <p>
+ * Signals backpressure: the client should retry later.
+ * </p>
+ */
+public class IntakeQueueFullException extends RuntimeException {
+
+    /**
+     * Constructs a new IntakeQueueFullException with the specified detail message.
+     *
+     * @param message the detail message explaining the exception
+     */
+    public IntakeQueueFullException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,22 @@
+package com.griddynamics.order_management.exception;
+
+/**
+ * Exception thrown when a pagination cursor cannot be decoded.
+ * <p>
+ * Typically raised when a client passes an {@code after} token that was not
+ * produced by the corresponding cursor endpoint.
+ * </p>
+ *
+ * @see com.griddynamics.order_management.dto.CursorResponse
+ */
+public class InvalidCursorException extends RuntimeException {
+
+    /**
+     * Constructs a new InvalidCursorException with the specified detail message.
+     *
+     * @param message the detail message explaining the exception
+     */
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,20 @@
+package com.griddynamics.order_management.exception;
+
+/**
+ * Exception thrown when a synchronous order placement did not complete in time,
+ * or could not complete because the application is shutting down.
+ * <p>
+ * The message states whether the order may still have been placed.
+ * </p>
+ */
+public class OrderPlacementTimeoutException extends RuntimeException {
+
+    /**
+     * Constructs a new OrderPlacementTimeoutException with the specified detail message.
+     *
+     * @param message the detail message explaining the exception
+     */
+    public OrderPlacementTimeoutException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,19 @@
+package com.griddynamics.order_management.exception;
+
+/**
+ * Exception thrown when no asynchronous order submission is known for a tracking ID.
+ * <p>
+ * Raised for IDs that were never issued and for submissions whose status has expired.
+ * </p>
+ */
+public class TrackingIdNotFoundException extends RuntimeException {
+
+    /**
+     * Constructs a new TrackingIdNotFoundException with the specified detail message.
+     *
+     * @param message the detail message explaining the exception
+     */
+    public TrackingIdNotFoundException(String message) {
+        super(message);
+    }
+}
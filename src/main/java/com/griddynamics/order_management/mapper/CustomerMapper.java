@@ -0,0 +1,33 @@
+package com.griddynamics.order_management.mapper;
+
+import com.griddynamics.order_management.dto.CustomerDTO;
+import com.griddynamics.order_management.model.Customer;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingConstants;
+import org.mapstruct.ReportingPolicy;
+
+/**
+ * Mapper between {@link CustomerDTO} and {@link Customer}, generated at compile time.
+ */
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING, unmappedTargetPolicy = ReportingPolicy.ERROR)
+public interface CustomerMapper {
+
+    /**
+     * Creates a new, unsaved customer from the DTO. The DTO's ID is ignored.
+     *
+     * @param customerDTO the customer data
+     * @return a new {@link Customer} without an ID or orders
+     */
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "orders", ignore = true)
+    Customer toEntity(CustomerDTO customerDTO);
+
+    /**
+     * Converts a customer to its DTO.
+     *
+     * @param customer the customer
+     * @return the corresponding {@link CustomerDTO}
+     */
+    CustomerDTO toDto(Customer customer);
+}
@@ -0,0 +1,39 @@
+package com.griddynamics.order_management.mapper;
+
+import com.griddynamics.order_management.dto.OrderDTO;
+import com.griddynamics.order_management.dto.OrderItemDTO;
+import com.griddynamics.order_management.model.Order;
+import com.griddynamics.order_management.model.OrderItem;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingConstants;
+import org.mapstruct.ReportingPolicy;
+
+/**
+ * Mapper from {@link Order} and {@link OrderItem} to their DTOs, generated at compile time.
+ * <p>
+ * There is no reverse mapping: orders are only created by the order service, which
+ * resolves the customer and products and reserves stock.
+ * </p>
+ */
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING, unmappedTargetPolicy = ReportingPolicy.ERROR)
+public interface OrderMapper {
+
+    /**
+     * Converts an order and its items to its DTO.
+     *
+     * @param order the order; its customer and items must be loaded
+     * @return the corresponding {@link OrderDTO}
+     */
+    @Mapping(target = "customerId", source = "customer.id")
+    OrderDTO toDto(Order order);
+
+    /**
+     * Converts an order item to its DTO.
+     *
+     * @param orderItem the order item; its product must be loaded
+     * @return the corresponding {@link OrderItemDTO}
+     */
+    @Mapping(target = "productId", source = "product.id")
+    OrderItemDTO toDto(OrderItem orderItem);
+}
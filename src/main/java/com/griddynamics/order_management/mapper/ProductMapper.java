@@ -0,0 +1,50 @@
+package com.griddynamics.order_management.mapper;
+
+import com.griddynamics.order_management.dto.ProductDTO;
+import com.griddynamics.order_management.model.Product;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingConstants;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.ReportingPolicy;
+
+/**
+ * Mapper between {@link ProductDTO} and {@link Product}.
+ * <p>
+ * The implementation is generated at compile time as plain getter/setter calls,
+ * so mapping involves no reflection and no allocation beyond the target object.
+ * </p>
+ */
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING, unmappedTargetPolicy = ReportingPolicy.ERROR)
+public interface ProductMapper {
+
+    /**
+     * Creates a new, unsaved product from the DTO. The DTO's ID is ignored.
+     *
+     * @param productDTO the product data
+     * @return a new {@link Product} without an ID
+     */
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "changeVersion", ignore = true)
+    Product toEntity(ProductDTO productDTO);
+
+    /**
+     * Copies the DTO's fields onto an existing product, keeping its ID.
+     *
+     * @param productDTO the product data
+     * @param product the product to update
+     */
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "changeVersion", ignore = true)
+    void updateEntity(ProductDTO productDTO, @MappingTarget Product product);
+
+    /**
+     * Converts a product to its DTO.
+     *
+     * @param product the product
+     * @return the corresponding {@link ProductDTO}
+     */
+    ProductDTO toDto(Product product);
+}
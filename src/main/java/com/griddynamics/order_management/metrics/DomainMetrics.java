@@ -0,0 +1,84 @@
+package com.griddynamics.order_management.metrics;
+
+import com.griddynamics.order_management.event.OrderStatusChangedEvent;
+import com.griddynamics.order_management.model.Customer;
+import com.griddynamics.order_management.model.Order;
+import com.griddynamics.order_management.model.Product;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Locale;
+
+/**
+ * Business counters of the order management domain.
+ * <p>
+ * Publishes {@code orders.insufficient.stock} per order rejected for lack of stock,
+ * {@code lookups.not.found} per missing customer, product or order (tagged {@code entity})
+ * and {@code orders.status.transitions} per status change of an existing order (tagged
+ * {@code from} and {@code to}). The failure counters are incremented where the condition is
+ * detected, so a failure that propagates through several services is counted once. Status
+ * transitions are counted from {@link OrderStatusChangedEvent}s once their transaction commits,
+ * so neither rolled back nor retried attempts are counted. Optimistic locking
+ * conflicts of stock and order updates are counted by
+ * {@link com.griddynamics.order_management.retry.ConflictMetricsRetryListener}.
+ * </p>
+ */
+@Component
+public class DomainMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final Counter insufficientStock;
+
+    public DomainMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.insufficientStock = Counter.builder("orders.insufficient.stock")
+                .description("Orders rejected because a product lacked stock")
+                .register(meterRegistry);
+        for (Class<?> entity : new Class<?>[]{Customer.class, Product.class, Order.class}) {
+            notFoundCounter(entity);
+        }
+    }
+
+    /**
+     * Counts an order rejected for insufficient stock.
+     */
+    public void insufficientStock() {
+        insufficientStock.increment();
+    }
+
+    /**
+     * Counts a lookup of a customer, product or order that does not exist.
+     *
+     * @param entity the entity class that was looked up
+     */
+    public void notFound(Class<?> entity) {
+        notFoundCounter(entity).increment();
+    }
+
+    /**
+     * Counts a committed status change of an order. Updates to the current status are not counted.
+     *
+     * @param event the status change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void statusTransition(OrderStatusChangedEvent event) {
+        if (event.previousStatus() == event.status()) {
+            return;
+        }
+        Counter.builder("orders.status.transitions")
+                .description("Status changes of existing orders")
+                .tag("from", String.valueOf(event.previousStatus()))
+                .tag("to", String.valueOf(event.status()))
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private Counter notFoundCounter(Class<?> entity) {
+        return Counter.builder("lookups.not.found")
+                .description("Lookups of entities that do not exist")
+                .tag("entity", entity.getSimpleName().toLowerCase(Locale.ROOT))
+                .register(meterRegistry);
+    }
+}
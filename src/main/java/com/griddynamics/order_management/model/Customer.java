@@ -5,6 +5,8 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -14,21 +16,24 @@ import java.util.List;
  * <p>
  * Each customer can place multiple orders. The customer entity contains
  * identifying information such as name, email, and phone number.
+ * Customers are kept in the second-level cache.
  * </p>
  */
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "customers")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "customer")
+@Table(name = "customers", indexes = @Index(name = "idx_customers_name_id", columnList = "name, id"))
 public class Customer {
 
     /**
      * Unique identifier for the customer.
-     * Auto-generated primary key.
+     * Auto-generated primary key drawn from a pooled sequence.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "customer_seq")
+    @SequenceGenerator(name = "customer_seq", sequenceName = "customers_seq", allocationSize = 50)
     private Long id;
 
     /**
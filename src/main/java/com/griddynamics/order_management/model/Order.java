@@ -20,15 +20,16 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", indexes = @Index(name = "idx_orders_order_date_id", columnList = "order_date, id"))
 public class Order {
 
     /**
      * Unique identifier for the order.
-     * Auto-generated primary key.
+     * Auto-generated primary key drawn from a pooled sequence.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_seq")
+    @SequenceGenerator(name = "order_seq", sequenceName = "orders_seq", allocationSize = 50)
     private Long id;
 
     /**
@@ -62,6 +63,13 @@ public class Order {
     @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<OrderItem> orderItems = new ArrayList<>();
 
+    /**
+     * Optimistic locking version; concurrent status changes of the same order conflict
+     * instead of overwriting each other.
+     */
+    @Version
+    private Long version;
+
     /**
      * Enum representing the status of an order.
      */
@@ -22,10 +22,11 @@ public class OrderItem {
 
     /**
      * Unique identifier for the order item.
-     * Auto-generated primary key.
+     * Auto-generated primary key drawn from a pooled sequence.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_item_seq")
+    @SequenceGenerator(name = "order_item_seq", sequenceName = "order_items_seq", allocationSize = 50)
     private Long id;
 
     /**
@@ -0,0 +1,60 @@
+package com.griddynamics.order_management.model;
+
+import com.griddynamics.order_management.dto.OrderEvent;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Represents an order event waiting in the transactional outbox.
+ * <p>
+ * Entries are written in the same transaction as the order change they describe, so an
+ * event exists if and only if the change was committed. The outbox relay delivers them in
+ * ID order and deletes them once delivered, so the table only holds undelivered events.
+ * </p>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "order_outbox")
+public class OrderOutboxEntry {
+
+    /**
+     * Unique identifier for the outbox entry, also used as the event ID.
+     * Auto-generated primary key drawn from a pooled sequence; later changes of the same
+     * order always get higher IDs.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_outbox_seq")
+    @SequenceGenerator(name = "order_outbox_seq", sequenceName = "order_outbox_seq", allocationSize = 50)
+    private Long id;
+
+    /**
+     * ID of the order the event is about.
+     */
+    @Column(nullable = false)
+    private Long orderId;
+
+    /**
+     * Kind of change.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 32)
+    private OrderEvent.Type type;
+
+    /**
+     * Event details as JSON, see {@link OrderEvent.Details}.
+     */
+    @Column(nullable = false, length = 65_535)
+    private String payload;
+
+    /**
+     * Date and time when the change was made.
+     */
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -4,26 +4,39 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /**
  * Represents a product that can be ordered in the order management system.
  * <p>
  * Each product has a name, description, price, and available stock quantity.
+ * Products are kept in the second-level cache; bulk stock updates evict the region.
+ * Concurrent modifications are detected through the {@link #version} column.
+ * </p>
+ * <p>
+ * Every write clears {@link #changeVersion}; the change stamper then assigns the next value of
+ * {@code product_change_seq}, which is what incremental catalog sync clients page through.
  * </p>
  */
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "products")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "product")
+@Table(name = "products", indexes = {
+        @Index(name = "idx_products_name_id", columnList = "name, id"),
+        @Index(name = "idx_products_change_version", columnList = "changeVersion")
+})
 public class Product {
 
     /**
      * Unique identifier for the product.
-     * Auto-generated primary key.
+     * Auto-generated primary key drawn from a pooled sequence.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_seq")
+    @SequenceGenerator(name = "product_seq", sequenceName = "products_seq", allocationSize = 50)
     private Long id;
 
     /**
@@ -51,4 +64,25 @@ public class Product {
      */
     @Column(nullable = false)
     private int stockQuantity;
+
+    /**
+     * Optimistic locking version, incremented by every update including bulk stock adjustments.
+     */
+    @Version
+    private Long version;
+
+    /**
+     * Catalog change version of the last stamped modification.
+     * {@code null} while a modification is waiting to be stamped.
+     */
+    private Long changeVersion;
+
+    /**
+     * Marks the product as changed so that the change stamper assigns it a new version.
+     */
+    @PrePersist
+    @PreUpdate
+    void markChanged() {
+        changeVersion = null;
+    }
 }
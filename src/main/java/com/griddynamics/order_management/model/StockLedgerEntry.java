@@ -0,0 +1,43 @@
+package com.griddynamics.order_management.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Represents a stock movement recorded by the in-memory inventory engine.
+ * <p>
+ * Each reservation or release appends one entry in the same transaction as the order
+ * that caused it. Entries are periodically folded into {@link Product#getStockQuantity()}
+ * and deleted, so the ledger only holds movements that have not been written back yet.
+ * </p>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "stock_ledger")
+public class StockLedgerEntry {
+
+    /**
+     * Unique identifier for the ledger entry.
+     * Auto-generated primary key drawn from a pooled sequence.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "stock_ledger_seq")
+    @SequenceGenerator(name = "stock_ledger_seq", sequenceName = "stock_ledger_seq", allocationSize = 50)
+    private Long id;
+
+    /**
+     * ID of the product whose stock moved.
+     */
+    @Column(nullable = false)
+    private Long productId;
+
+    /**
+     * Signed stock movement: negative for reservations, positive for releases.
+     */
+    @Column(nullable = false)
+    private int delta;
+}
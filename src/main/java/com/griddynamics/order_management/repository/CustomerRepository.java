@@ -1,15 +1,55 @@
 package com.griddynamics.order_management.repository;
 
+import com.griddynamics.order_management.dto.CustomerSummary;
 import com.griddynamics.order_management.model.Customer;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
 
 /**
  * Repository interface for performing CRUD operations on {@link Customer} entities.
  * <p>
  * Extends {@link JpaRepository} to provide built-in methods for interacting with
- * the database, including pagination and sorting support.
+ * the database, including pagination and sorting support, and keyset pagination
+ * over {@code (name, id)}.
  * </p>
  */
 public interface CustomerRepository extends JpaRepository<Customer, Long>, JpaSpecificationExecutor<Customer> {
+
+    /**
+     * Retrieves the summary of the customer with the given ID.
+     *
+     * @param id the ID of the customer
+     * @return the customer summary, or empty if there is no such customer
+     */
+    @Query("SELECT new com.griddynamics.order_management.dto.CustomerSummary(c.id, c.name, c.email) " +
+            "FROM Customer c WHERE c.id = :id")
+    Optional<CustomerSummary> findSummaryById(@Param("id") Long id);
+
+    /**
+     * Retrieves the summaries of the first customers in {@code (name, id)} order.
+     *
+     * @param limit the maximum number of customers to return
+     * @return list of customer summaries
+     */
+    @Query("SELECT new com.griddynamics.order_management.dto.CustomerSummary(c.id, c.name, c.email) " +
+            "FROM Customer c ORDER BY c.name, c.id")
+    List<CustomerSummary> findFirstByKeyset(Limit limit);
+
+    /**
+     * Retrieves the summaries of the customers that follow the given position in {@code (name, id)} order.
+     *
+     * @param name the name of the last customer already returned
+     * @param id the ID of the last customer already returned
+     * @param limit the maximum number of customers to return
+     * @return list of customer summaries
+     */
+    @Query("SELECT new com.griddynamics.order_management.dto.CustomerSummary(c.id, c.name, c.email) " +
+            "FROM Customer c WHERE c.name > :name OR (c.name = :name AND c.id > :id) ORDER BY c.name, c.id")
+    List<CustomerSummary> findAfter(@Param("name") String name, @Param("id") Long id, Limit limit);
 }
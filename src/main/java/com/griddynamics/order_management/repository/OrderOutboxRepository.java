@@ -0,0 +1,39 @@
+package com.griddynamics.order_management.repository;
+
+import com.griddynamics.order_management.model.OrderOutboxEntry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository interface for performing CRUD operations on {@link OrderOutboxEntry} entities.
+ * <p>
+ * Used to record order events with the order change and to relay them in batches.
+ * </p>
+ */
+public interface OrderOutboxRepository extends JpaRepository<OrderOutboxEntry, Long> {
+
+    /**
+     * Retrieves the oldest undelivered outbox entries.
+     *
+     * @param pageable the maximum number of entries to retrieve
+     * @return list of outbox entries ordered by ID
+     */
+    @Query("SELECT e FROM OrderOutboxEntry e ORDER BY e.id")
+    List<OrderOutboxEntry> findOldest(Pageable pageable);
+
+    /**
+     * Deletes the outbox entries with the given identifiers.
+     *
+     * @param ids the IDs of the entries to delete
+     * @return number of deleted entries
+     */
+    @Modifying
+    @Query("DELETE FROM OrderOutboxEntry e WHERE e.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+}
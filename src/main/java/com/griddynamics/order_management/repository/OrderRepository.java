@@ -1,25 +1,141 @@
 package com.griddynamics.order_management.repository;
 
-import com.griddynamics.order_management.model.Customer;
+import com.griddynamics.order_management.dto.OrderDetailRow;
+import com.griddynamics.order_management.dto.OrderExportRow;
+import com.griddynamics.order_management.dto.OrderSummary;
 import com.griddynamics.order_management.model.Order;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for performing CRUD operations on {@link Order} entities.
  * <p>
  * Extends {@link JpaRepository} to provide standard database operations and includes
- * a custom method to retrieve all orders placed by a specific customer.
+ * custom methods to load orders together with their items and products in a constant
+ * number of queries, to select order summaries and details as lean projections, and to walk
+ * all orders with keyset pagination over {@code (orderDate, id)}.
  * </p>
  */
 public interface OrderRepository extends JpaRepository<Order, Long> {
 
     /**
-     * Retrieves all orders associated with the given customer.
+     * Retrieves an order together with its customer, items and item products in one query.
      *
-     * @param customer the customer whose orders are to be retrieved
-     * @return list of orders placed by the specified customer
+     * @param id the ID of the order
+     * @return the order, or empty if it does not exist
      */
-    List<Order> findByCustomer(Customer customer);
+    @EntityGraph(attributePaths = {"customer", "orderItems", "orderItems.product"})
+    Optional<Order> findWithItemsById(Long id);
+
+    /**
+     * Retrieves a page of order summaries. Sorting of the {@link Pageable} applies to {@link Order}
+     * attributes.
+     *
+     * @param pageable the pagination information
+     * @return page of order summaries
+     */
+    @Query(value = "SELECT new com.griddynamics.order_management.dto.OrderSummary(" +
+            "o.id, c.id, c.name, o.orderDate, o.status, COUNT(i), COALESCE(SUM(i.quantity * i.priceAtPurchase), 0.0)) " +
+            "FROM Order o JOIN o.customer c LEFT JOIN o.orderItems i " +
+            "GROUP BY o.id, c.id, c.name, o.orderDate, o.status",
+            countQuery = "SELECT count(o) FROM Order o")
+    Page<OrderSummary> findSummaries(Pageable pageable);
+
+    /**
+     * Retrieves the summaries of all orders placed by the given customer.
+     *
+     * @param customerId the ID of the customer
+     * @return list of order summaries, ordered by order ID
+     */
+    @Query("SELECT new com.griddynamics.order_management.dto.OrderSummary(" +
+            "o.id, c.id, c.name, o.orderDate, o.status, COUNT(i), COALESCE(SUM(i.quantity * i.priceAtPurchase), 0.0)) " +
+            "FROM Order o JOIN o.customer c LEFT JOIN o.orderItems i " +
+            "WHERE c.id = :customerId " +
+            "GROUP BY o.id, c.id, c.name, o.orderDate, o.status " +
+            "ORDER BY o.id")
+    List<OrderSummary> findSummariesByCustomerId(@Param("customerId") Long customerId);
+
+    /**
+     * Retrieves one flat row per item of the given order, with the customer and product names.
+     *
+     * @param id the ID of the order
+     * @return list of rows ordered by item ID; empty if the order does not exist
+     */
+    @Query("SELECT new com.griddynamics.order_management.dto.OrderDetailRow(" +
+            "o.id, c.id, c.name, o.orderDate, o.status, i.id, p.id, p.name, i.quantity, i.priceAtPurchase) " +
+            "FROM Order o JOIN o.customer c LEFT JOIN o.orderItems i LEFT JOIN i.product p " +
+            "WHERE o.id = :id " +
+            "ORDER BY i.id")
+    List<OrderDetailRow> findDetailRows(@Param("id") Long id);
+
+    /**
+     * Retrieves the IDs of the first orders in {@code (orderDate, id)} order.
+     *
+     * @param limit the maximum number of IDs to return
+     * @return list of order IDs
+     */
+    @Query("SELECT o.id FROM Order o ORDER BY o.orderDate, o.id")
+    List<Long> findFirstIds(Limit limit);
+
+    /**
+     * Retrieves the IDs of the orders that follow the given position in {@code (orderDate, id)} order.
+     *
+     * @param orderDate the order date of the last order already returned
+     * @param id the ID of the last order already returned
+     * @param limit the maximum number of IDs to return
+     * @return list of order IDs
+     */
+    @Query("SELECT o.id FROM Order o " +
+            "WHERE o.orderDate > :orderDate OR (o.orderDate = :orderDate AND o.id > :id) " +
+            "ORDER BY o.orderDate, o.id")
+    List<Long> findIdsAfter(@Param("orderDate") LocalDateTime orderDate, @Param("id") Long id, Limit limit);
+
+    /**
+     * Retrieves the summaries of the given orders in {@code (orderDate, id)} order.
+     *
+     * @param ids the IDs of the orders to summarize
+     * @return list of order summaries
+     */
+    @Query("SELECT new com.griddynamics.order_management.dto.OrderSummary(" +
+            "o.id, c.id, c.name, o.orderDate, o.status, COUNT(i), COALESCE(SUM(i.quantity * i.priceAtPurchase), 0.0)) " +
+            "FROM Order o JOIN o.customer c LEFT JOIN o.orderItems i " +
+            "WHERE o.id IN :ids " +
+            "GROUP BY o.id, c.id, c.name, o.orderDate, o.status " +
+            "ORDER BY o.orderDate, o.id")
+    List<OrderSummary> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Streams one flat row per order item for all orders placed in {@code [from, to)}, ordered by
+     * order date, order ID and item ID, so that the {@code (order_date, id)} index serves both the
+     * range and the order. The result is read with a forward-only cursor and must be consumed
+     * inside a transaction and closed afterwards.
+     *
+     * @param from inclusive lower bound of the order date
+     * @param to exclusive upper bound of the order date
+     * @return stream of export rows
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.griddynamics.order_management.dto.OrderExportRow(" +
+            "o.id, o.customer.id, o.orderDate, o.status, i.id, i.product.id, i.quantity, i.priceAtPurchase) " +
+            "FROM Order o LEFT JOIN o.orderItems i " +
+            "WHERE o.orderDate >= :from AND o.orderDate < :to " +
+            "ORDER BY o.orderDate, o.id, i.id")
+    Stream<OrderExportRow> streamExportRows(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
 }
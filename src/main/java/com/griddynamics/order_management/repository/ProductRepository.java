@@ -1,14 +1,178 @@
 package com.griddynamics.order_management.repository;
 
+import com.griddynamics.order_management.dto.ProductChange;
+import com.griddynamics.order_management.dto.ProductListItem;
 import com.griddynamics.order_management.model.Product;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
 
 /**
  * Repository interface for performing CRUD operations on {@link Product} entities.
  * <p>
- * Extends {@link JpaRepository} to provide convenient data access methods,
- * including support for pagination and sorting.
+ * Extends {@link JpaRepository} to provide convenient data access methods, including support for
+ * pagination and sorting, lean list projections, and atomic stock adjustments that are executed as
+ * single conditional UPDATE statements. Every stock adjustment also increments the optimistic
+ * locking version, so a concurrent entity update of the same product fails instead of overwriting
+ * it, and clears the change version so that the product is re-stamped for incremental catalog sync.
+ * Because the adjustments are bulk updates, Hibernate evicts the product cache region and
+ * invalidates cached catalog pages after each.
  * </p>
  */
 public interface ProductRepository extends JpaRepository<Product, Long> {
+
+    /**
+     * Atomically decrements the stock of a product if enough units are available.
+     *
+     * @param id the ID of the product
+     * @param quantity the number of units to take from stock
+     * @return {@code 1} if the stock was decremented, {@code 0} if the product does not
+     *         exist or has fewer than {@code quantity} units in stock
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE Product p SET p.stockQuantity = p.stockQuantity - :quantity, p.changeVersion = NULL, p.version = p.version + 1 " +
+            "WHERE p.id = :id AND p.stockQuantity >= :quantity")
+    int decrementStock(@Param("id") Long id, @Param("quantity") int quantity);
+
+    /**
+     * Atomically increments the stock of a product.
+     *
+     * @param id the ID of the product
+     * @param quantity the number of units to return to stock
+     * @return {@code 1} if the stock was incremented, {@code 0} if the product does not exist
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE Product p SET p.stockQuantity = p.stockQuantity + :quantity, p.changeVersion = NULL, p.version = p.version + 1 " +
+            "WHERE p.id = :id")
+    int incrementStock(@Param("id") Long id, @Param("quantity") int quantity);
+
+    /**
+     * Atomically adds a signed delta to the stock of a product without any availability check.
+     * Used to write back stock movements that have already been validated elsewhere.
+     *
+     * @param id the ID of the product
+     * @param delta the signed number of units to add to stock
+     * @return {@code 1} if the stock was adjusted, {@code 0} if the product does not exist
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE Product p SET p.stockQuantity = p.stockQuantity + :delta, p.changeVersion = NULL, p.version = p.version + 1 " +
+            "WHERE p.id = :id")
+    int adjustStock(@Param("id") Long id, @Param("delta") int delta);
+
+    /**
+     * Retrieves only the stock levels of the given products.
+     *
+     * @param ids the IDs of the products
+     * @return list of stock levels for the products that exist
+     */
+    @Query("SELECT p.id AS id, p.stockQuantity AS stockQuantity FROM Product p WHERE p.id IN :ids")
+    List<StockLevel> findStockLevels(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Retrieves the stock levels of all products.
+     *
+     * @return list of stock levels for every product
+     */
+    @Query("SELECT p.id AS id, p.stockQuantity AS stockQuantity FROM Product p")
+    List<StockLevel> findAllStockLevels();
+
+    /**
+     * Retrieves the products with any of the given names.
+     *
+     * @param names the product names
+     * @return list of matching products
+     */
+    List<Product> findAllByNameIn(Collection<String> names);
+
+    /**
+     * Retrieves all products as list items.
+     *
+     * @return list of product list items, ordered by ID
+     */
+    @Query("SELECT new com.griddynamics.order_management.dto.ProductListItem(p.id, p.name, p.price, p.stockQuantity) " +
+            "FROM Product p ORDER BY p.id")
+    List<ProductListItem> findListItems();
+
+    /**
+     * Retrieves a page of products as list items. Sorting of the {@link Pageable} applies to
+     * {@link Product} attributes. The page and its count are kept in the query cache until
+     * the {@code products} table changes.
+     *
+     * @param pageable the pagination information
+     * @return page of product list items
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "catalog-pages")
+    })
+    @Query(value = "SELECT new com.griddynamics.order_management.dto.ProductListItem(p.id, p.name, p.price, p.stockQuantity) " +
+            "FROM Product p",
+            countQuery = "SELECT count(p) FROM Product p")
+    Page<ProductListItem> findListItems(Pageable pageable);
+
+    /**
+     * Retrieves the products stamped with a change version greater than {@code since},
+     * in ascending version order.
+     *
+     * @param since the last change version the client has seen
+     * @param limit the maximum number of products to return
+     * @return list of product changes
+     */
+    @Query("SELECT new com.griddynamics.order_management.dto.ProductChange(" +
+            "p.id, p.name, p.description, p.price, p.stockQuantity, p.changeVersion) " +
+            "FROM Product p WHERE p.changeVersion > :since ORDER BY p.changeVersion")
+    List<ProductChange> findChangesSince(@Param("since") long since, Limit limit);
+
+    /**
+     * Tells whether any product is waiting to be stamped with a change version.
+     *
+     * @return {@code true} if a product has no change version
+     */
+    boolean existsByChangeVersionIsNull();
+
+    /**
+     * Retrieves the list items of the first products in {@code (name, id)} order.
+     *
+     * @param limit the maximum number of products to return
+     * @return list of product list items
+     */
+    @Query("SELECT new com.griddynamics.order_management.dto.ProductListItem(p.id, p.name, p.price, p.stockQuantity) " +
+            "FROM Product p ORDER BY p.name, p.id")
+    List<ProductListItem> findFirstByKeyset(Limit limit);
+
+    /**
+     * Retrieves the list items of the products that follow the given position in {@code (name, id)} order.
+     *
+     * @param name the name of the last product already returned
+     * @param id the ID of the last product already returned
+     * @param limit the maximum number of products to return
+     * @return list of product list items
+     */
+    @Query("SELECT new com.griddynamics.order_management.dto.ProductListItem(p.id, p.name, p.price, p.stockQuantity) " +
+            "FROM Product p WHERE p.name > :name OR (p.name = :name AND p.id > :id) ORDER BY p.name, p.id")
+    List<ProductListItem> findAfter(@Param("name") String name, @Param("id") Long id, Limit limit);
+
+    /**
+     * Projection exposing only the identifier and stock quantity of a {@link Product}.
+     */
+    interface StockLevel {
+
+        Long getId();
+
+        int getStockQuantity();
+    }
 }
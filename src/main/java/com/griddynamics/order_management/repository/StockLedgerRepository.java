@@ -0,0 +1,50 @@
+package com.griddynamics.order_management.repository;
+
+import com.griddynamics.order_management.model.StockLedgerEntry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository interface for performing CRUD operations on {@link StockLedgerEntry} entities.
+ * <p>
+ * Used by the in-memory inventory engine to record stock movements and write them
+ * back to the {@code products} table in batches.
+ * </p>
+ */
+public interface StockLedgerRepository extends JpaRepository<StockLedgerEntry, Long> {
+
+    /**
+     * Retrieves the oldest pending ledger entries.
+     *
+     * @param pageable the maximum number of entries to retrieve
+     * @return list of ledger entries ordered by ID
+     */
+    @Query("SELECT e FROM StockLedgerEntry e ORDER BY e.id")
+    List<StockLedgerEntry> findOldest(Pageable pageable);
+
+    /**
+     * Deletes the ledger entries with the given identifiers.
+     *
+     * @param ids the IDs of the entries to delete
+     * @return number of deleted entries
+     */
+    @Modifying
+    @Query("DELETE FROM StockLedgerEntry e WHERE e.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Deletes all pending ledger entries of a product.
+     *
+     * @param productId the ID of the product
+     * @return number of deleted entries
+     */
+    @Modifying
+    @Query("DELETE FROM StockLedgerEntry e WHERE e.productId = :productId")
+    int deleteByProductId(@Param("productId") Long productId);
+}
@@ -0,0 +1,70 @@
+package com.griddynamics.order_management.retry;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.retry.RetryCallback;
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.RetryListener;
+import org.springframework.retry.interceptor.MethodInvocationRetryCallback;
+import org.springframework.stereotype.Component;
+
+/**
+ * Records optimistic locking conflicts of {@link RetryOnConflict} methods.
+ * <p>
+ * Publishes three counters tagged with the {@code operation} ({@code Class.method}):
+ * {@code optimistic.lock.calls} per invocation, {@code optimistic.lock.conflicts} per failed
+ * attempt and {@code optimistic.lock.exhausted} per invocation that ran out of attempts.
+ * The conflict rate of an operation is {@code conflicts / calls}.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class ConflictMetricsRetryListener implements RetryListener {
+
+    private static final String OPERATION = "operation";
+    private static final String SUCCEEDED = "succeeded";
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public <T, E extends Throwable> boolean open(RetryContext context, RetryCallback<T, E> callback) {
+        String operation = callback instanceof MethodInvocationRetryCallback<T, E> invocation
+                ? invocation.getInvocation().getMethod().getDeclaringClass().getSimpleName()
+                        + "." + invocation.getInvocation().getMethod().getName()
+                : String.valueOf(context.getAttribute(RetryContext.NAME));
+        context.setAttribute(OPERATION, operation);
+        counter("optimistic.lock.calls", context).increment();
+        return true;
+    }
+
+    @Override
+    public <T, E extends Throwable> void onError(RetryContext context, RetryCallback<T, E> callback, Throwable throwable) {
+        if (throwable instanceof OptimisticLockingFailureException) {
+            counter("optimistic.lock.conflicts", context).increment();
+        }
+    }
+
+    @Override
+    public <T, E extends Throwable> void onSuccess(RetryContext context, RetryCallback<T, E> callback, T result) {
+        context.setAttribute(SUCCEEDED, true);
+    }
+
+    /**
+     * Counts the invocation as exhausted if no attempt succeeded. The throwable passed here is
+     * the last failure even when a later attempt succeeded, so it cannot be used on its own.
+     */
+    @Override
+    public <T, E extends Throwable> void close(RetryContext context, RetryCallback<T, E> callback, Throwable throwable) {
+        if (throwable instanceof OptimisticLockingFailureException && !context.hasAttribute(SUCCEEDED)) {
+            counter("optimistic.lock.exhausted", context).increment();
+        }
+    }
+
+    private Counter counter(String name, RetryContext context) {
+        return Counter.builder(name)
+                .tag(OPERATION, (String) context.getAttribute(OPERATION))
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,35 @@
+package com.griddynamics.order_management.retry;
+
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.retry.annotation.Backoff;
+import org.springframework.retry.annotation.Retryable;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Retries a transactional service method when it loses an optimistic locking race.
+ * <p>
+ * Each attempt runs in its own transaction and re-reads the current state. Attempts are bounded
+ * by {@code concurrency.retry.max-attempts}; the pause between them grows exponentially from
+ * {@code concurrency.retry.initial-delay-ms} up to {@code concurrency.retry.max-delay-ms} and is
+ * randomized, so contending callers do not retry in lock step. When all attempts fail, the last
+ * {@link OptimisticLockingFailureException} is rethrown.
+ * </p>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+@Retryable(
+        retryFor = OptimisticLockingFailureException.class,
+        maxAttemptsExpression = "${concurrency.retry.max-attempts:4}",
+        backoff = @Backoff(
+                delayExpression = "${concurrency.retry.initial-delay-ms:5}",
+                maxDelayExpression = "${concurrency.retry.max-delay-ms:100}",
+                multiplier = 2,
+                random = true))
+public @interface RetryOnConflict {
+}
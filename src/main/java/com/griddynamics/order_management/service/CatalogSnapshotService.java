@@ -0,0 +1,44 @@
+package com.griddynamics.order_management.service;
+
+/**
+ * Service interface for the pre-serialized product catalog served by {@code GET /api/products}.
+ * <p>
+ * The catalog is kept as an immutable snapshot that is replaced atomically when products
+ * change, so reads never touch the database or serialize anything.
+ * </p>
+ */
+public interface CatalogSnapshotService {
+
+    /**
+     * Returns the current snapshot, building the first one if none exists yet.
+     *
+     * @return the current {@link Snapshot}
+     */
+    Snapshot current();
+
+    /**
+     * Requests a rebuild of the snapshot in the background. Requests arriving while a
+     * rebuild is pending are coalesced into it.
+     */
+    void requestRebuild();
+
+    /**
+     * Immutable catalog snapshot.
+     *
+     * @param etag strong entity tag of the JSON representation, derived from its content
+     * @param json the catalog serialized as a JSON array
+     * @param gzip {@code json} compressed with gzip
+     * @param productCount the number of products in the catalog
+     */
+    record Snapshot(String etag, byte[] json, byte[] gzip, int productCount) {
+
+        /**
+         * Returns the strong entity tag of the gzip-encoded representation.
+         *
+         * @return the entity tag of {@link #gzip()}
+         */
+        public String gzipEtag() {
+            return etag.substring(0, etag.length() - 1) + "-gzip\"";
+        }
+    }
+}
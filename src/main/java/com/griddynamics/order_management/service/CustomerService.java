@@ -1,13 +1,17 @@
 package com.griddynamics.order_management.service;
 
 import com.griddynamics.order_management.dto.CustomerDTO;
+import com.griddynamics.order_management.dto.CustomerSummary;
 import com.griddynamics.order_management.exception.CustomerNotFoundException;
 import com.griddynamics.order_management.model.Customer;
+import com.griddynamics.order_management.dto.CursorResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import java.time.LocalDate;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Service interface for handling business logic related to {@link Customer} operations.
@@ -35,6 +39,25 @@ public interface CustomerService {
      */
     Customer getCustomerById(Long id) throws CustomerNotFoundException;
 
+    /**
+     * Retrieves the summary of a customer by their unique identifier.
+     * Only the columns of {@link CustomerSummary} are selected.
+     *
+     * @param id the ID of the customer to retrieve
+     * @return the corresponding {@link CustomerSummary}
+     * @throws CustomerNotFoundException if no customer is found with the given ID
+     */
+    CustomerSummary getCustomerSummary(Long id) throws CustomerNotFoundException;
+
+    /**
+     * Retrieves the customers with the given identifiers in a single query.
+     * Identifiers with no matching customer are simply absent from the result.
+     *
+     * @param ids the IDs of the customers to retrieve
+     * @return map of customer ID to the corresponding {@link Customer} entity
+     */
+    Map<Long, Customer> getCustomersByIds(Collection<Long> ids);
+
     /**
      * Retrieves all customers currently registered in the system.
      *
@@ -44,6 +67,17 @@ public interface CustomerService {
 
     /**
      * Paginated, filtered, and sorted search for customers.
+     * Only the columns of {@link CustomerSummary} are selected.
+     */
+    Page<CustomerSummary> searchCustomers(String name, String email, LocalDate createdAfter, Pageable pageable);
+
+    /**
+     * Retrieves a slice of customers using keyset pagination over {@code (name, id)}.
+     * Only the columns of {@link CustomerSummary} are selected.
+     *
+     * @param after the cursor returned with the previous slice, or {@code null} for the first slice
+     * @param size the maximum number of customers to return
+     * @return a {@link CursorResponse} of {@link CustomerSummary} records
      */
-    Page<Customer> searchCustomers(String name, String email, LocalDate createdAfter, Pageable pageable);
+    CursorResponse<CustomerSummary> getCustomersAfter(String after, int size);
 }
@@ -0,0 +1,25 @@
+package com.griddynamics.order_management.service;
+
+import com.griddynamics.order_management.dto.OrderEvent;
+
+import java.util.List;
+
+/**
+ * Destination of the order events relayed from the transactional outbox.
+ * <p>
+ * The active implementation is selected with the {@code orders.outbox.sink} property:
+ * {@code log} (default) writes every event as one JSON line to the {@code order-events}
+ * logger, while {@code listener} hands batches to in-process listeners. A message broker
+ * client would be another implementation.
+ * </p>
+ */
+public interface OrderEventSink {
+
+    /**
+     * Delivers a batch of events. Returning normally acknowledges the whole batch; throwing
+     * makes the relay deliver it again later, so delivery is at-least-once.
+     *
+     * @param events the events to deliver, in outbox order
+     */
+    void deliver(List<OrderEvent> events);
+}
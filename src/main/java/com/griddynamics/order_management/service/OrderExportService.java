@@ -0,0 +1,27 @@
+package com.griddynamics.order_management.service;
+
+import com.griddynamics.order_management.model.Order;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+
+/**
+ * Service interface for exporting {@link Order} data in bulk.
+ */
+public interface OrderExportService {
+
+    /**
+     * Writes all orders placed in {@code [from, to)} with their items to the given stream,
+     * one JSON object per line, ordered by order date and ID.
+     * Rows are streamed from the database, so the export runs in constant memory and
+     * the first lines are written before the query has been fully read.
+     *
+     * @param from inclusive lower bound of the order date
+     * @param to exclusive upper bound of the order date
+     * @param out the stream to write to; it is flushed but not closed
+     * @return the number of exported orders
+     * @throws IOException if writing to the stream fails
+     */
+    long exportOrders(LocalDateTime from, LocalDateTime to, OutputStream out) throws IOException;
+}
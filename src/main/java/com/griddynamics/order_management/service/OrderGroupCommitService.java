@@ -0,0 +1,32 @@
+package com.griddynamics.order_management.service;
+
+import com.griddynamics.order_management.dto.OrderDTO;
+import com.griddynamics.order_management.exception.CustomerNotFoundException;
+import com.griddynamics.order_management.exception.InsufficientStockException;
+import com.griddynamics.order_management.exception.OrderPlacementTimeoutException;
+import com.griddynamics.order_management.exception.ProductNotFoundException;
+import com.griddynamics.order_management.model.Order;
+
+/**
+ * Service interface for synchronous order placement with group commit.
+ * <p>
+ * Concurrent callers are combined: orders arriving within a short window are placed by
+ * {@link OrderService#placeOrderGroup} in one transaction, with batched inserts and one
+ * commit, and every caller still receives its own order or exception.
+ * </p>
+ */
+public interface OrderGroupCommitService {
+
+    /**
+     * Places an order, possibly together with orders of concurrent callers.
+     * Behaves like {@link OrderService#placeOrder(OrderDTO)} from the caller's point of view.
+     *
+     * @param orderDTO the data transfer object containing order details
+     * @return the created {@link Order} entity
+     * @throws CustomerNotFoundException if the customer does not exist
+     * @throws ProductNotFoundException if any product in the order is not found
+     * @throws InsufficientStockException if any product does not have sufficient stock
+     * @throws OrderPlacementTimeoutException if the order was not placed in time
+     */
+    Order placeOrder(OrderDTO orderDTO) throws CustomerNotFoundException, ProductNotFoundException, InsufficientStockException;
+}
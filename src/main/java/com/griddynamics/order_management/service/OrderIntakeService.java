@@ -0,0 +1,35 @@
+package com.griddynamics.order_management.service;
+
+import com.griddynamics.order_management.dto.OrderDTO;
+import com.griddynamics.order_management.dto.OrderIntakeStatus;
+import com.griddynamics.order_management.exception.IntakeQueueFullException;
+import com.griddynamics.order_management.exception.TrackingIdNotFoundException;
+
+/**
+ * Service interface for asynchronous order placement.
+ * <p>
+ * Submitted orders wait in a bounded in-process queue and are placed in micro-batches by
+ * background workers through {@link OrderService#placeOrders}, so a burst of orders holds a
+ * few database connections for a few transactions instead of one each.
+ * </p>
+ */
+public interface OrderIntakeService {
+
+    /**
+     * Enqueues an order for placement.
+     *
+     * @param orderDTO the order to place
+     * @return the {@code QUEUED} status with the tracking ID
+     * @throws IntakeQueueFullException if the queue has no room left
+     */
+    OrderIntakeStatus submit(OrderDTO orderDTO) throws IntakeQueueFullException;
+
+    /**
+     * Retrieves the status of a submitted order.
+     *
+     * @param trackingId the tracking ID returned by {@link #submit(OrderDTO)}
+     * @return the current status
+     * @throws TrackingIdNotFoundException if the ID is unknown or its status has expired
+     */
+    OrderIntakeStatus getStatus(String trackingId) throws TrackingIdNotFoundException;
+}
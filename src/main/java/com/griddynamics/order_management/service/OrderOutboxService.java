@@ -0,0 +1,38 @@
+package com.griddynamics.order_management.service;
+
+import com.griddynamics.order_management.model.Order;
+
+import java.util.Collection;
+
+/**
+ * Service interface for the transactional outbox of order events.
+ * <p>
+ * Changes are recorded in the caller's transaction, so downstream systems learn about
+ * exactly the committed changes, and relayed to the {@link OrderEventSink} in the background.
+ * </p>
+ */
+public interface OrderOutboxService {
+
+    /**
+     * Records placed orders. Must be called in the transaction that saves them.
+     *
+     * @param orders the saved orders, with their items
+     */
+    void recordPlaced(Collection<Order> orders);
+
+    /**
+     * Records a status change of an order. Must be called in the transaction that makes it.
+     *
+     * @param order the order with its new status
+     * @param previousStatus the status before the change
+     */
+    void recordStatusChange(Order order, Order.OrderStatus previousStatus);
+
+    /**
+     * Delivers the recorded events to the sink in batches, oldest first, and removes the
+     * delivered ones from the outbox.
+     *
+     * @return number of events delivered
+     */
+    int relay();
+}
@@ -1,12 +1,16 @@
 package com.griddynamics.order_management.service;
 
 import com.griddynamics.order_management.dto.OrderDTO;
+import com.griddynamics.order_management.dto.OrderDetail;
+import com.griddynamics.order_management.dto.OrderPlacementResult;
 import com.griddynamics.order_management.dto.OrderStatusUpdateDTO;
+import com.griddynamics.order_management.dto.OrderSummary;
 import com.griddynamics.order_management.exception.CustomerNotFoundException;
 import com.griddynamics.order_management.exception.InsufficientStockException;
 import com.griddynamics.order_management.exception.OrderNotFoundException;
 import com.griddynamics.order_management.exception.ProductNotFoundException;
 import com.griddynamics.order_management.model.Order;
+import com.griddynamics.order_management.dto.CursorResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -33,6 +37,36 @@ public interface OrderService {
      */
     Order placeOrder(OrderDTO orderDTO) throws CustomerNotFoundException, ProductNotFoundException, InsufficientStockException;
 
+    /**
+     * Places several orders in one transaction.
+     * Customers and products referenced by the whole batch are resolved with one query each,
+     * and all created orders are inserted together.
+     * <p>
+     * With {@code atomic = false} every order succeeds or fails on its own and the failures
+     * are reported in the results. With {@code atomic = true} the first failing order aborts
+     * the batch, its exception is thrown, and no order of the batch is placed.
+     * </p>
+     *
+     * @param orderDTOs the orders to place
+     * @param atomic whether the batch is all-or-nothing
+     * @return one result per submitted order, in submission order
+     * @throws CustomerNotFoundException if {@code atomic} and a customer does not exist
+     * @throws ProductNotFoundException if {@code atomic} and a product is not found
+     * @throws InsufficientStockException if {@code atomic} and a product lacks sufficient stock
+     */
+    List<OrderPlacementResult> placeOrders(List<OrderDTO> orderDTOs, boolean atomic)
+            throws CustomerNotFoundException, ProductNotFoundException, InsufficientStockException;
+
+    /**
+     * Places orders of independent callers in one transaction, each succeeding or failing on
+     * its own, and returns the created order or the failure of every one of them.
+     * Used to group-commit concurrent {@link #placeOrder(OrderDTO)} requests.
+     *
+     * @param orderDTOs the orders to place
+     * @return one {@link Placement} per submitted order, in submission order
+     */
+    List<Placement> placeOrderGroup(List<OrderDTO> orderDTOs);
+
     /**
      * Retrieves an order by its unique ID.
      *
@@ -42,6 +76,15 @@ public interface OrderService {
      */
     Order getOrderById(Long id) throws OrderNotFoundException;
 
+    /**
+     * Retrieves the read model of an order with its items in a single query.
+     *
+     * @param id the ID of the order to retrieve
+     * @return the corresponding {@link OrderDetail}
+     * @throws OrderNotFoundException if no order is found with the given ID
+     */
+    OrderDetail getOrderDetail(Long id) throws OrderNotFoundException;
+
     /**
      * Cancels an existing order by its ID.
      *
@@ -65,16 +108,36 @@ public interface OrderService {
      * Retrieves all orders placed by a specific customer.
      *
      * @param customerId the ID of the customer
-     * @return list of {@link Order} entities belonging to the customer
+     * @return list of {@link OrderSummary} records for the customer's orders
      * @throws CustomerNotFoundException if the customer does not exist
      */
-    List<Order> getOrdersByCustomerId(Long customerId) throws CustomerNotFoundException;
+    List<OrderSummary> getOrdersByCustomerId(Long customerId) throws CustomerNotFoundException;
 
     /**
      * Retrieves a paginated list of orders.
      *
      * @param pageable the pagination information
-     * @return a page of {@link Order} entities
+     * @return a page of {@link OrderSummary} records
+     */
+    Page<OrderSummary> getAllOrders(Pageable pageable);
+
+    /**
+     * Retrieves a slice of orders using keyset pagination over {@code (orderDate, id)}.
+     * No total count is computed, so walking all orders costs the same per slice.
+     *
+     * @param after the cursor returned with the previous slice, or {@code null} for the first slice
+     * @param size the maximum number of orders to return
+     * @return a {@link CursorResponse} of {@link OrderSummary} records
+     */
+    CursorResponse<OrderSummary> getOrdersAfter(String after, int size);
+
+    /**
+     * Outcome of one order of {@link #placeOrderGroup(List)}.
+     *
+     * @param order the created order, or {@code null} if it failed
+     * @param error why the order was not placed ({@link CustomerNotFoundException},
+     *              {@link ProductNotFoundException} or {@link InsufficientStockException}), or {@code null}
      */
-    Page<Order> getAllOrders(Pageable pageable);
+    record Placement(Order order, RuntimeException error) {
+    }
 }
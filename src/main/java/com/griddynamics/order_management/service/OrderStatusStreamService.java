@@ -0,0 +1,36 @@
+package com.griddynamics.order_management.service;
+
+import com.griddynamics.order_management.event.OrderStatusChangedEvent;
+import com.griddynamics.order_management.exception.CustomerNotFoundException;
+import com.griddynamics.order_management.exception.OrderNotFoundException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Service interface for streaming order status changes to clients as Server-Sent Events.
+ * <p>
+ * Each subscription receives one {@code status} event, an {@link OrderStatusChangedEvent} as
+ * JSON, per committed status change of the orders it covers. Subscribers that cannot keep up
+ * are disconnected and are expected to reconnect.
+ * </p>
+ */
+public interface OrderStatusStreamService {
+
+    /**
+     * Subscribes to the status changes of one order. The current status is sent first,
+     * as an event without previous status.
+     *
+     * @param orderId the ID of the order
+     * @return the emitter streaming the events
+     * @throws OrderNotFoundException if the order does not exist
+     */
+    SseEmitter subscribeToOrder(Long orderId) throws OrderNotFoundException;
+
+    /**
+     * Subscribes to the status changes of all orders of a customer.
+     *
+     * @param customerId the ID of the customer
+     * @return the emitter streaming the events
+     * @throws CustomerNotFoundException if the customer does not exist
+     */
+    SseEmitter subscribeToCustomer(Long customerId) throws CustomerNotFoundException;
+}
@@ -0,0 +1,30 @@
+package com.griddynamics.order_management.service;
+
+import com.griddynamics.order_management.dto.ProductChanges;
+
+/**
+ * Service interface for incremental catalog sync.
+ * <p>
+ * Writers only mark products as changed. Versions are assigned afterwards by
+ * {@link #stampChanges()} from a single sequence and only to committed rows, so a client that
+ * has seen version {@code n} can never later find a change with a version at or below {@code n}.
+ * </p>
+ */
+public interface ProductChangeService {
+
+    /**
+     * Retrieves the products changed after the given version.
+     *
+     * @param since the watermark returned by the previous call, or {@code 0} for a full sync
+     * @param limit the maximum number of products to return (at most 1000)
+     * @return the changes and the watermark to resume from
+     */
+    ProductChanges getChangesSince(long since, int limit);
+
+    /**
+     * Assigns new change versions to every product modified since the last run.
+     *
+     * @return the number of products stamped
+     */
+    int stampChanges();
+}
@@ -0,0 +1,42 @@
+package com.griddynamics.order_management.service;
+
+import com.griddynamics.order_management.dto.ProductDTO;
+import com.griddynamics.order_management.dto.ProductImportResult;
+import com.griddynamics.order_management.model.Product;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Service interface for bulk loading {@link Product} data into the catalog.
+ * <p>
+ * The input is read incrementally, so memory use does not depend on its size.
+ * </p>
+ */
+public interface ProductImportService {
+
+    /**
+     * Supported input formats.
+     */
+    enum Format {
+        /** One JSON {@link ProductDTO} object per line. */
+        NDJSON,
+        /** Comma-separated values with a header row naming the {@link ProductDTO} fields. */
+        CSV
+    }
+
+    /**
+     * Imports products from the given stream.
+     * Rows with an {@code id} update that product, and are reported as failed if it does not
+     * exist. Rows without an {@code id} update the product with the same name, or create a new
+     * product if there is none, so importing the same input twice is idempotent. Each row is
+     * validated against the {@link ProductDTO} constraints, and invalid rows are reported
+     * without aborting the import.
+     *
+     * @param input the UTF-8 encoded input
+     * @param format the format of the input
+     * @return summary of the import, including per-row errors
+     * @throws IOException if the input cannot be read
+     */
+    ProductImportResult importProducts(InputStream input, Format format) throws IOException;
+}
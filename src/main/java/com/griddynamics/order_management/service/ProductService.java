@@ -1,13 +1,18 @@
 package com.griddynamics.order_management.service;
 
 import com.griddynamics.order_management.dto.ProductDTO;
+import com.griddynamics.order_management.dto.ProductListItem;
 import com.griddynamics.order_management.dto.StockUpdateDTO;
+import com.griddynamics.order_management.exception.InsufficientStockException;
 import com.griddynamics.order_management.exception.ProductNotFoundException;
 import com.griddynamics.order_management.model.Product;
+import com.griddynamics.order_management.dto.CursorResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Service interface for handling business logic related to {@link Product} operations.
@@ -34,20 +39,29 @@ public interface ProductService {
      */
     Product getProductById(Long id) throws ProductNotFoundException;
 
+    /**
+     * Retrieves the products with the given identifiers in a single query.
+     * Identifiers with no matching product are simply absent from the result.
+     *
+     * @param ids the IDs of the products to retrieve
+     * @return map of product ID to the corresponding {@link Product} entity
+     */
+    Map<Long, Product> getProductsByIds(Collection<Long> ids);
+
     /**
      * Retrieves all products available in the system.
      *
-     * @return list of all {@link Product} entities
+     * @return list of {@link ProductListItem} records for all products
      */
-    List<Product> getAllProducts();
+    List<ProductListItem> getAllProducts();
 
     /**
      * Retrieves a paginated list of products.
      *
      * @param pageable the pagination information
-     * @return a page of {@link Product} entities
+     * @return a page of {@link ProductListItem} records
      */
-    Page<Product> getAllProducts(Pageable pageable);
+    Page<ProductListItem> getAllProducts(Pageable pageable);
 
     /**
      * Updates the stock quantity of a product.
@@ -58,4 +72,34 @@ public interface ProductService {
      * @throws ProductNotFoundException if no product is found with the given ID
      */
     Product updateProductStock(Long id, StockUpdateDTO stockUpdateDTO) throws ProductNotFoundException;
+
+    /**
+     * Reserves stock for several products at once.
+     * Every line is decremented atomically in the database, and a failed reservation
+     * leaves stock untouched.
+     *
+     * @param quantities map of product ID to the quantity to reserve
+     * @return map of product ID to the reserved {@link Product} entity
+     * @throws ProductNotFoundException if any of the products does not exist
+     * @throws InsufficientStockException if one or more products lack sufficient stock;
+     *                                    the message lists every short line
+     */
+    Map<Long, Product> reserveStock(Map<Long, Integer> quantities) throws ProductNotFoundException, InsufficientStockException;
+
+    /**
+     * Returns previously reserved stock for several products, e.g. when an order is cancelled.
+     *
+     * @param quantities map of product ID to the quantity to return to stock
+     */
+    void releaseStock(Map<Long, Integer> quantities);
+
+    /**
+     * Retrieves a slice of products using keyset pagination over {@code (name, id)}.
+     * Only the columns of {@link ProductListItem} are selected.
+     *
+     * @param after the cursor returned with the previous slice, or {@code null} for the first slice
+     * @param size the maximum number of products to return
+     * @return a {@link CursorResponse} of {@link ProductListItem} records
+     */
+    CursorResponse<ProductListItem> getProductsAfter(String after, int size);
 }
@@ -0,0 +1,43 @@
+package com.griddynamics.order_management.service;
+
+import com.griddynamics.order_management.model.Product;
+
+import java.util.Map;
+
+/**
+ * Service interface for the inventory engine that reserves and returns {@link Product} stock.
+ * <p>
+ * The active implementation is selected with the {@code inventory.engine} property:
+ * {@code database} (default) applies every reservation as an atomic conditional UPDATE,
+ * while {@code memory} keeps authoritative counters in memory and writes them behind
+ * to the {@code products} table in batches.
+ * </p>
+ */
+public interface StockReservationService {
+
+    /**
+     * Reserves stock for several products at once. The reservation is all-or-nothing:
+     * if any line cannot be reserved, no stock is taken for any of the lines.
+     *
+     * @param quantities map of product ID to the quantity to reserve
+     * @return map of product ID to the currently available stock for every line that could
+     *         not be reserved ({@code 0} for unknown products); empty if the whole
+     *         reservation succeeded
+     */
+    Map<Long, Integer> reserve(Map<Long, Integer> quantities);
+
+    /**
+     * Returns previously reserved stock for several products.
+     *
+     * @param quantities map of product ID to the quantity to return to stock
+     */
+    void release(Map<Long, Integer> quantities);
+
+    /**
+     * Notifies the engine that the stock of a product has been overwritten with an absolute value.
+     *
+     * @param productId the ID of the product
+     * @param stockQuantity the new stock quantity
+     */
+    void stockReset(Long productId, int stockQuantity);
+}
@@ -0,0 +1,154 @@
+package com.griddynamics.order_management.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.griddynamics.order_management.dto.ProductListItem;
+import com.griddynamics.order_management.event.ProductsChangedEvent;
+import com.griddynamics.order_management.repository.ProductRepository;
+import com.griddynamics.order_management.service.CatalogSnapshotService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Implementation of {@link CatalogSnapshotService} that keeps the snapshot in an
+ * {@link AtomicReference}.
+ * <p>
+ * Readers only dereference the current snapshot, so they never block. Product changes are
+ * signalled by {@link ProductsChangedEvent} after commit; they schedule one rebuild on a
+ * dedicated thread after {@code catalog.snapshot.rebuild-delay-ms}, and every change that
+ * arrives before that rebuild starts reading is folded into it. The entity tag is a hash of
+ * the serialized catalog, so a rebuild that produces identical content keeps the same tag.
+ * </p>
+ */
+@Slf4j
+@Service
+public class CatalogSnapshotServiceImpl implements CatalogSnapshotService {
+
+    private final ProductRepository productRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final long rebuildDelayMs;
+
+    private final AtomicReference<Snapshot> current = new AtomicReference<>();
+    private final AtomicBoolean rebuildPending = new AtomicBoolean();
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "catalog-snapshot");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public CatalogSnapshotServiceImpl(ProductRepository productRepository,
+                                      ObjectMapper objectMapper,
+                                      PlatformTransactionManager transactionManager,
+                                      @Value("${catalog.snapshot.rebuild-delay-ms:200}") long rebuildDelayMs) {
+        this.productRepository = productRepository;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.rebuildDelayMs = rebuildDelayMs;
+    }
+
+    /**
+     * Returns the current snapshot. Only the very first call builds it in the caller's thread.
+     *
+     * @return the current {@link Snapshot}
+     */
+    @Override
+    public Snapshot current() {
+        Snapshot snapshot = current.get();
+        if (snapshot != null) {
+            return snapshot;
+        }
+        current.compareAndSet(null, build());
+        return current.get();
+    }
+
+    /**
+     * Schedules a rebuild unless one is already pending.
+     */
+    @Override
+    public void requestRebuild() {
+        if (rebuildPending.compareAndSet(false, true)) {
+            executor.schedule(this::rebuild, rebuildDelayMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Requests a rebuild once the transaction that changed the products has committed.
+     *
+     * @param event the change event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductsChanged(ProductsChangedEvent event) {
+        requestRebuild();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Builds a new snapshot and publishes it if its content differs from the current one.
+     * The pending flag is cleared before reading, so changes committed during the build
+     * schedule another rebuild.
+     */
+    private void rebuild() {
+        rebuildPending.set(false);
+        try {
+            Snapshot snapshot = build();
+            Snapshot previous = current.get();
+            if (previous == null || !previous.etag().equals(snapshot.etag())) {
+                current.set(snapshot);
+                log.debug("Catalog snapshot rebuilt: {} products, ETag {}", snapshot.productCount(), snapshot.etag());
+            }
+        } catch (RuntimeException e) {
+            log.error("Catalog snapshot rebuild failed; serving the previous snapshot", e);
+        }
+    }
+
+    private Snapshot build() {
+        List<ProductListItem> products = transactionTemplate.execute(status -> productRepository.findListItems());
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(products);
+            return new Snapshot(etagOf(json), json, gzip(json), products.size());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String etagOf(byte[] json) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(json);
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] gzip(byte[] json) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        }
+        return out.toByteArray();
+    }
+}
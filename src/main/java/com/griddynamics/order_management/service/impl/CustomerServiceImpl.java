@@ -1,12 +1,21 @@
 package com.griddynamics.order_management.service.impl;
 
 import com.griddynamics.order_management.dto.CustomerDTO;
+import com.griddynamics.order_management.dto.CustomerSummary;
+import com.griddynamics.order_management.dto.CursorResponse;
 import com.griddynamics.order_management.exception.CustomerNotFoundException;
+import com.griddynamics.order_management.mapper.CustomerMapper;
+import com.griddynamics.order_management.metrics.DomainMetrics;
 import com.griddynamics.order_management.model.Customer;
 import com.griddynamics.order_management.repository.CustomerRepository;
 import com.griddynamics.order_management.service.CustomerService;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
@@ -14,17 +23,21 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Implementation of {@link CustomerService} that provides business logic for
  * registering and retrieving customers from the database.
  * <p>
- * Uses {@link ModelMapper} for converting DTOs to entity objects and
+ * Uses {@link CustomerMapper} for converting DTOs to entity objects and
  * {@link CustomerRepository} for data access operations.
  * </p>
  */
 @Service
+@Timed("service.calls")
 @RequiredArgsConstructor
 public class CustomerServiceImpl implements CustomerService {
 
@@ -36,7 +49,15 @@ public class CustomerServiceImpl implements CustomerService {
     /**
      * Mapper for converting between DTOs and entities.
      */
-    private final ModelMapper modelMapper;
+    private final CustomerMapper customerMapper;
+
+    /**
+     * Counter of missing customers.
+     */
+    private final DomainMetrics domainMetrics;
+
+    @PersistenceContext
+    private EntityManager entityManager;
 
     /**
      * Registers a new customer in the system.
@@ -47,7 +68,7 @@ public class CustomerServiceImpl implements CustomerService {
     @Override
     @Transactional
     public Customer registerCustomer(CustomerDTO customerDTO) {
-        Customer customer = modelMapper.map(customerDTO, Customer.class);
+        Customer customer = customerMapper.toEntity(customerDTO);
         return customerRepository.save(customer);
     }
 
@@ -62,7 +83,54 @@ public class CustomerServiceImpl implements CustomerService {
     @Transactional(readOnly = true)
     public Customer getCustomerById(Long id) throws CustomerNotFoundException {
         return customerRepository.findById(id)
-                .orElseThrow(() -> new CustomerNotFoundException("Customer not found with id: " + id));
+                .orElseThrow(() -> {
+                    domainMetrics.notFound(Customer.class);
+                    return new CustomerNotFoundException("Customer not found with id: " + id);
+                });
+    }
+
+    /**
+     * Retrieves the summary of a customer by their unique ID, selecting only its columns.
+     *
+     * @param id the ID of the customer to retrieve
+     * @return the corresponding {@link CustomerSummary}
+     * @throws CustomerNotFoundException if no customer is found with the given ID
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CustomerSummary getCustomerSummary(Long id) throws CustomerNotFoundException {
+        return customerRepository.findSummaryById(id)
+                .orElseThrow(() -> {
+                    domainMetrics.notFound(Customer.class);
+                    return new CustomerNotFoundException("Customer not found with id: " + id);
+                });
+    }
+
+    /**
+     * Retrieves the customers with the given identifiers.
+     * Customers found in the second-level cache are served from it; the rest are
+     * loaded with a single query.
+     *
+     * @param ids the IDs of the customers to retrieve
+     * @return map of customer ID to the corresponding {@link Customer} entity
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, Customer> getCustomersByIds(Collection<Long> ids) {
+        Map<Long, Customer> customers = new HashMap<>();
+        if (ids.isEmpty()) {
+            return customers;
+        }
+        List<Customer> loaded = entityManager.unwrap(Session.class)
+                .byMultipleIds(Customer.class)
+                .with(CacheMode.NORMAL)
+                .multiLoad(List.copyOf(ids));
+        for (Customer customer : loaded) {
+            if (customer != null) {
+                customers.put(customer.getId(), customer);
+            }
+        }
+        return customers;
     }
 
     /**
@@ -77,9 +145,10 @@ public class CustomerServiceImpl implements CustomerService {
     }
 
     @Override
-    public Page<Customer> searchCustomers(String name, String email, LocalDate createdAfter, Pageable pageable) {
+    @Transactional(readOnly = true)
+    public Page<CustomerSummary> searchCustomers(String name, String email, LocalDate createdAfter, Pageable pageable) {
         Specification<Customer> spec = (root, query, cb) -> {
-            List<javax.persistence.criteria.Predicate> predicates = new java.util.ArrayList<>();
+            List<jakarta.persistence.criteria.Predicate> predicates = new java.util.ArrayList<>();
             if (name != null) {
                 predicates.add(cb.like(cb.lower(root.get("name")), name.toLowerCase() + "%"));
             }
@@ -89,8 +158,31 @@ public class CustomerServiceImpl implements CustomerService {
             if (createdAfter != null) {
                 predicates.add(cb.greaterThan(root.get("createdAt"), createdAfter));
             }
-            return cb.and(predicates.toArray(new javax.persistence.criteria.Predicate[0]));
+            return cb.and(predicates.toArray(new jakarta.persistence.criteria.Predicate[0]));
         };
-        return customerRepository.findAll(spec, pageable);
+        return customerRepository.findBy(spec, query -> query.as(CustomerSummary.class).page(pageable));
+    }
+
+    /**
+     * Retrieves a slice of customers using keyset pagination over {@code (name, id)}.
+     *
+     * @param after the cursor returned with the previous slice, or {@code null} for the first slice
+     * @param size the maximum number of customers to return
+     * @return a {@link CursorResponse} of customers
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorResponse<CustomerSummary> getCustomersAfter(String after, int size) {
+        KeysetCursor cursor = KeysetCursor.decode(after);
+        int limit = KeysetCursor.clampSize(size);
+        List<CustomerSummary> customers = cursor == null
+                ? customerRepository.findFirstByKeyset(Limit.of(limit + 1))
+                : customerRepository.findAfter(cursor.key(), cursor.id(), Limit.of(limit + 1));
+        if (customers.size() <= limit) {
+            return new CursorResponse<>(customers, null);
+        }
+        List<CustomerSummary> content = customers.subList(0, limit);
+        CustomerSummary last = content.get(limit - 1);
+        return new CursorResponse<>(content, new KeysetCursor(last.name(), last.id()).encode());
     }
 }
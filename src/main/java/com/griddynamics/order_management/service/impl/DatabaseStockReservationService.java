@@ -0,0 +1,180 @@
+package com.griddynamics.order_management.service.impl;
+
+import com.griddynamics.order_management.event.ProductsChangedEvent;
+import com.griddynamics.order_management.repository.ProductRepository;
+import com.griddynamics.order_management.service.StockReservationService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Implementation of {@link StockReservationService} that applies every reservation
+ * directly to the {@code products} table.
+ * <p>
+ * A reservation is executed as one conditional {@code UPDATE ... WHERE stock >= quantity}
+ * of all its lines, which only applies if every line is available, so concurrent
+ * reservations can never oversell and a failed reservation has nothing to undo. The
+ * affected row count tells whether the whole reservation was applied. A release is one
+ * {@code UPDATE} of all its lines. This is the default engine ({@code inventory.engine=database}).
+ * </p>
+ */
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "inventory.engine", havingValue = "database", matchIfMissing = true)
+public class DatabaseStockReservationService implements StockReservationService {
+
+    /**
+     * Repository providing the atomic stock adjustments.
+     */
+    private final ProductRepository productRepository;
+
+    /**
+     * Publisher of {@link ProductsChangedEvent}s for every stock movement.
+     */
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Reserves all lines with one conditional {@code UPDATE}. If no row was updated, the
+     * current stock levels are read to report the lines that are short.
+     * <p>
+     * A concurrent reservation can take the last units of a line after the statement checked
+     * the other lines, so that only some rows are updated. The reservation then fails with an
+     * {@link OptimisticLockingFailureException}, which rolls the partial update back with the
+     * transaction and lets the caller retry.
+     * </p>
+     *
+     * @param quantities map of product ID to the quantity to reserve
+     * @return map of product ID to available stock for every line that could not be reserved
+     * @throws OptimisticLockingFailureException if the stock changed concurrently
+     */
+    @Override
+    @Transactional
+    public Map<Long, Integer> reserve(Map<Long, Integer> quantities) {
+        if (quantities.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, Integer> lines = new TreeMap<>(quantities);
+        int updated = lines.size() == 1
+                ? productRepository.decrementStock(lines.keySet().iterator().next(), lines.values().iterator().next())
+                : decrementAll(lines);
+
+        if (updated == lines.size()) {
+            eventPublisher.publishEvent(new ProductsChangedEvent(lines.keySet()));
+            return Map.of();
+        }
+        if (updated == 0) {
+            Map<Long, Integer> shortages = shortagesOf(lines);
+            if (!shortages.isEmpty()) {
+                return shortages;
+            }
+        }
+        throw new OptimisticLockingFailureException("Stock of products " + lines.keySet() + " changed concurrently");
+    }
+
+    /**
+     * Returns stock of all lines with one {@code UPDATE}.
+     *
+     * @param quantities map of product ID to the quantity to return to stock
+     */
+    @Override
+    @Transactional
+    public void release(Map<Long, Integer> quantities) {
+        if (quantities.isEmpty()) {
+            return;
+        }
+        Map<Long, Integer> lines = new TreeMap<>(quantities);
+        if (lines.size() == 1) {
+            productRepository.incrementStock(lines.keySet().iterator().next(), lines.values().iterator().next());
+        } else {
+            incrementAll(lines);
+        }
+        eventPublisher.publishEvent(new ProductsChangedEvent(lines.keySet()));
+    }
+
+    /**
+     * Nothing to do: the {@code products} table is the only copy of the stock.
+     *
+     * @param productId the ID of the product
+     * @param stockQuantity the new stock quantity
+     */
+    @Override
+    public void stockReset(Long productId, int stockQuantity) {
+    }
+
+    /**
+     * Takes the quantity of every line from stock if all lines are available.
+     *
+     * @return the number of updated rows
+     */
+    private int decrementAll(Map<Long, Integer> lines) {
+        String quantity = quantityOf("p", lines.size());
+        Query query = entityManager.createQuery(
+                "UPDATE Product p SET p.stockQuantity = p.stockQuantity - " + quantity + ", " +
+                        "p.changeVersion = NULL, p.version = p.version + 1 " +
+                        "WHERE p.id IN :ids AND p.stockQuantity >= " + quantity + " " +
+                        "AND (SELECT COUNT(q) FROM Product q " +
+                        "WHERE q.id IN :ids AND q.stockQuantity >= " + quantityOf("q", lines.size()) + ") = :lines");
+        bind(query, lines);
+        query.setParameter("lines", (long) lines.size());
+        return query.executeUpdate();
+    }
+
+    /**
+     * Adds the quantity of every line to stock.
+     */
+    private void incrementAll(Map<Long, Integer> lines) {
+        Query query = entityManager.createQuery(
+                "UPDATE Product p SET p.stockQuantity = p.stockQuantity + " + quantityOf("p", lines.size()) + ", " +
+                        "p.changeVersion = NULL, p.version = p.version + 1 " +
+                        "WHERE p.id IN :ids");
+        bind(query, lines);
+        query.executeUpdate();
+    }
+
+    /**
+     * Builds {@code CASE alias.id WHEN :id0 THEN :quantity0 ... END}, the quantity of the line of a row.
+     */
+    private static String quantityOf(String alias, int lines) {
+        StringBuilder quantity = new StringBuilder("CASE ").append(alias).append(".id");
+        for (int i = 0; i < lines; i++) {
+            quantity.append(" WHEN :id").append(i).append(" THEN :quantity").append(i);
+        }
+        return quantity.append(" END").toString();
+    }
+
+    private static void bind(Query query, Map<Long, Integer> lines) {
+        int i = 0;
+        for (Map.Entry<Long, Integer> line : lines.entrySet()) {
+            query.setParameter("id" + i, line.getKey());
+            query.setParameter("quantity" + i, line.getValue());
+            i++;
+        }
+        query.setParameter("ids", lines.keySet());
+    }
+
+    /**
+     * Reads the stock of the lines and returns the available stock of those that are short
+     * ({@code 0} for unknown products).
+     */
+    private Map<Long, Integer> shortagesOf(Map<Long, Integer> lines) {
+        Map<Long, Integer> shortages = new HashMap<>();
+        lines.keySet().forEach(id -> shortages.put(id, 0));
+        productRepository.findStockLevels(lines.keySet())
+                .forEach(level -> shortages.put(level.getId(), level.getStockQuantity()));
+        shortages.entrySet().removeIf(shortage -> shortage.getValue() >= lines.get(shortage.getKey()));
+        return shortages;
+    }
+}
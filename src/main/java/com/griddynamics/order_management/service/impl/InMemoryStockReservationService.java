@@ -0,0 +1,323 @@
+package com.griddynamics.order_management.service.impl;
+
+import com.griddynamics.order_management.event.ProductsChangedEvent;
+import com.griddynamics.order_management.model.StockLedgerEntry;
+import com.griddynamics.order_management.repository.ProductRepository;
+import com.griddynamics.order_management.repository.StockLedgerRepository;
+import com.griddynamics.order_management.service.StockReservationService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Implementation of {@link StockReservationService} that keeps authoritative stock
+ * counters in memory ({@code inventory.engine=memory}).
+ * <p>
+ * Reservations are lock-free compare-and-set operations on per-product counters, so hot
+ * products are never serialized on a database row. Every movement is appended to the
+ * {@code stock_ledger} table in the caller's transaction, which makes it as durable as
+ * the order that caused it, and a scheduled task folds the ledger into
+ * {@code products.stock_quantity} in batches. On startup any ledger entries left over from
+ * a crash are applied first, and the counters are then rebuilt from the {@code products} table.
+ * </p>
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "inventory.engine", havingValue = "memory")
+public class InMemoryStockReservationService implements StockReservationService {
+
+    private final ProductRepository productRepository;
+    private final StockLedgerRepository stockLedgerRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int flushBatchSize;
+
+    /**
+     * Authoritative available stock per product ID.
+     */
+    private final ConcurrentMap<Long, AtomicInteger> counters = new ConcurrentHashMap<>();
+
+    /**
+     * Committed stock per product ID: the counter minus the movements of transactions still
+     * in flight. Lets a stock reset replace the committed part without losing those movements.
+     */
+    private final ConcurrentMap<Long, AtomicInteger> committed = new ConcurrentHashMap<>();
+
+    /**
+     * Serializes flushes, so that two of them never read and apply the same ledger entries.
+     */
+    private final Lock flushLock = new ReentrantLock();
+
+    public InMemoryStockReservationService(ProductRepository productRepository,
+                                           StockLedgerRepository stockLedgerRepository,
+                                           PlatformTransactionManager transactionManager,
+                                           ApplicationEventPublisher eventPublisher,
+                                           @Value("${inventory.memory.flush-batch-size:5000}") int flushBatchSize) {
+        this.productRepository = productRepository;
+        this.stockLedgerRepository = stockLedgerRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.flushBatchSize = flushBatchSize;
+    }
+
+    /**
+     * Applies ledger entries left over from a previous run and loads the counters.
+     */
+    @PostConstruct
+    public void rebuild() {
+        int applied = flush();
+        if (applied > 0) {
+            log.warn("Reconciled {} unflushed stock ledger entries", applied);
+        }
+        counters.clear();
+        committed.clear();
+        transactionTemplate.executeWithoutResult(status -> productRepository.findAllStockLevels()
+                .forEach(level -> {
+                    counters.put(level.getId(), new AtomicInteger(level.getStockQuantity()));
+                    committed.put(level.getId(), new AtomicInteger(level.getStockQuantity()));
+                }));
+        log.info("In-memory inventory engine loaded {} products", counters.size());
+    }
+
+    /**
+     * Reserves all lines with compare-and-set, undoing the lines already taken if any line fails.
+     *
+     * @param quantities map of product ID to the quantity to reserve
+     * @return map of product ID to available stock for every line that could not be reserved
+     */
+    @Override
+    public Map<Long, Integer> reserve(Map<Long, Integer> quantities) {
+        Map<Long, Integer> reserved = new TreeMap<>();
+        Map<Long, Integer> shortages = new HashMap<>();
+        new TreeMap<>(quantities).forEach((id, quantity) -> {
+            AtomicInteger counter = counter(id);
+            if (counter == null) {
+                shortages.put(id, 0);
+                return;
+            }
+            int available = tryTake(counter, quantity);
+            if (available < 0) {
+                reserved.put(id, quantity);
+            } else {
+                shortages.put(id, available);
+            }
+        });
+
+        if (!shortages.isEmpty()) {
+            reserved.forEach((id, quantity) -> counters.get(id).addAndGet(quantity));
+            return shortages;
+        }
+
+        record(reserved, -1);
+        return Map.of();
+    }
+
+    /**
+     * Returns stock to the counters and records the movement in the ledger.
+     *
+     * @param quantities map of product ID to the quantity to return to stock
+     */
+    @Override
+    public void release(Map<Long, Integer> quantities) {
+        quantities.forEach((id, quantity) -> {
+            AtomicInteger counter = counter(id);
+            if (counter != null) {
+                counter.addAndGet(quantity);
+            }
+        });
+        record(quantities, 1);
+    }
+
+    /**
+     * Drops pending ledger entries of the product in the current transaction and, once it
+     * commits, replaces the committed stock of the counter with the new value. Movements of
+     * transactions still in flight stay on top of it, and are undone from it if those roll
+     * back. If the reset rolls back, the counter is left alone.
+     *
+     * @param productId the ID of the product
+     * @param stockQuantity the new stock quantity
+     */
+    @Override
+    public void stockReset(Long productId, int stockQuantity) {
+        stockLedgerRepository.deleteByProductId(productId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    applyReset(productId, stockQuantity);
+                }
+            });
+        } else {
+            applyReset(productId, stockQuantity);
+        }
+    }
+
+    /**
+     * Shifts the counter by the difference between the new and the committed stock.
+     * Counters not loaded yet are read from the {@code products} table on first use.
+     */
+    private void applyReset(Long productId, int stockQuantity) {
+        AtomicInteger counter = counters.get(productId);
+        if (counter == null) {
+            return;
+        }
+        int previous = committed.computeIfAbsent(productId, id -> new AtomicInteger()).getAndSet(stockQuantity);
+        counter.addAndGet(stockQuantity - previous);
+    }
+
+    /**
+     * Folds pending ledger entries into {@code products.stock_quantity}.
+     * Each batch is summed per product and written back with one UPDATE per product,
+     * and a {@link ProductsChangedEvent} is published for the products that changed.
+     * Concurrent callers (the scheduler and an explicit flush) run one after the other.
+     *
+     * @return number of ledger entries applied
+     */
+    @Scheduled(fixedDelayString = "${inventory.memory.flush-interval-ms:500}")
+    public int flush() {
+        int total = 0;
+        Set<Long> changed = new HashSet<>();
+        Integer applied;
+        flushLock.lock();
+        try {
+            do {
+                applied = transactionTemplate.execute(status -> {
+                    List<StockLedgerEntry> entries = stockLedgerRepository.findOldest(PageRequest.of(0, flushBatchSize));
+                    Map<Long, Integer> deltas = new TreeMap<>();
+                    List<Long> ids = new ArrayList<>(entries.size());
+                    for (StockLedgerEntry entry : entries) {
+                        deltas.merge(entry.getProductId(), entry.getDelta(), Integer::sum);
+                        ids.add(entry.getId());
+                    }
+                    deltas.forEach((id, delta) -> {
+                        if (delta != 0) {
+                            productRepository.adjustStock(id, delta);
+                            changed.add(id);
+                        }
+                    });
+                    if (!ids.isEmpty()) {
+                        stockLedgerRepository.deleteByIdIn(ids);
+                    }
+                    return entries.size();
+                });
+                total += applied;
+            } while (applied != null && applied == flushBatchSize);
+        } finally {
+            flushLock.unlock();
+        }
+        if (!changed.isEmpty()) {
+            eventPublisher.publishEvent(new ProductsChangedEvent(changed));
+        }
+        return total;
+    }
+
+    /**
+     * Writes back everything still pending before the application stops.
+     */
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    /**
+     * Returns the counter of a product, loading it from the database the first time a
+     * product created after startup is seen.
+     */
+    private AtomicInteger counter(Long id) {
+        AtomicInteger counter = counters.get(id);
+        if (counter != null) {
+            return counter;
+        }
+        List<ProductRepository.StockLevel> levels = productRepository.findStockLevels(List.of(id));
+        if (levels.isEmpty()) {
+            return null;
+        }
+        return counters.computeIfAbsent(id, key -> {
+            committed.put(key, new AtomicInteger(levels.get(0).getStockQuantity()));
+            return new AtomicInteger(levels.get(0).getStockQuantity());
+        });
+    }
+
+    /**
+     * Takes {@code quantity} units from the counter if available.
+     *
+     * @return {@code -1} on success, otherwise the available stock that was insufficient
+     */
+    private static int tryTake(AtomicInteger counter, int quantity) {
+        while (true) {
+            int available = counter.get();
+            if (available < quantity) {
+                return available;
+            }
+            if (counter.compareAndSet(available, available - quantity)) {
+                return -1;
+            }
+        }
+    }
+
+    /**
+     * Appends the movement to the ledger in the current transaction. If that transaction
+     * commits, the movement becomes part of the committed stock; if it rolls back, the ledger
+     * rows disappear with it and the counters are restored.
+     */
+    private void record(Map<Long, Integer> quantities, int sign) {
+        if (quantities.isEmpty()) {
+            return;
+        }
+        List<StockLedgerEntry> entries = new ArrayList<>(quantities.size());
+        quantities.forEach((id, quantity) -> entries.add(new StockLedgerEntry(null, id, sign * quantity)));
+        stockLedgerRepository.saveAll(entries);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_COMMITTED) {
+                        commit(quantities, sign);
+                    } else if (status == STATUS_ROLLED_BACK) {
+                        quantities.forEach((id, quantity) -> {
+                            AtomicInteger counter = counters.get(id);
+                            if (counter != null) {
+                                counter.addAndGet(-sign * quantity);
+                            }
+                        });
+                    }
+                }
+            });
+        } else {
+            commit(quantities, sign);
+        }
+    }
+
+    private void commit(Map<Long, Integer> quantities, int sign) {
+        quantities.forEach((id, quantity) -> {
+            AtomicInteger stock = committed.get(id);
+            if (stock != null) {
+                stock.addAndGet(sign * quantity);
+            }
+        });
+    }
+}
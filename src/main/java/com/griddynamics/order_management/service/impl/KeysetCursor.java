@@ -0,0 +1,55 @@
+package com.griddynamics.order_management.service.impl;
+
+import com.griddynamics.order_management.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque cursor over a (sort key, id) pair used for keyset pagination.
+ *
+ * @param key the sort key of the last returned row, as a string
+ * @param id the ID of the last returned row
+ */
+record KeysetCursor(String key, long id) {
+
+    /**
+     * Maximum number of rows returned for one cursor request.
+     */
+    static final int MAX_SIZE = 1000;
+
+    /**
+     * Encodes the cursor as a URL-safe token.
+     */
+    String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((id + ":" + key).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a token produced by {@link #encode()}.
+     *
+     * @param token the token, or {@code null} for the first slice
+     * @return the cursor, or {@code null} if {@code token} is {@code null} or empty
+     * @throws InvalidCursorException if the token is malformed
+     */
+    static KeysetCursor decode(String token) {
+        if (token == null || token.isEmpty()) {
+            return null;
+        }
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = value.indexOf(':');
+            return new KeysetCursor(value.substring(separator + 1), Long.parseLong(value.substring(0, separator)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new InvalidCursorException("Invalid cursor: " + token);
+        }
+    }
+
+    /**
+     * Clamps a requested slice size to {@code [1, MAX_SIZE]}.
+     */
+    static int clampSize(int size) {
+        return Math.max(1, Math.min(size, MAX_SIZE));
+    }
+}
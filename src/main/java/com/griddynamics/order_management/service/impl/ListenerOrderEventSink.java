@@ -0,0 +1,37 @@
+package com.griddynamics.order_management.service.impl;
+
+import com.griddynamics.order_management.dto.OrderEvent;
+import com.griddynamics.order_management.event.OrderEventsRelayedEvent;
+import com.griddynamics.order_management.service.OrderEventSink;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Implementation of {@link OrderEventSink} that publishes every batch as an
+ * {@link OrderEventsRelayedEvent} to in-process listeners ({@code orders.outbox.sink=listener}).
+ * <p>
+ * Listeners run synchronously on the relay thread; an exception from any of them makes
+ * the batch be delivered again.
+ * </p>
+ */
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "orders.outbox.sink", havingValue = "listener")
+public class ListenerOrderEventSink implements OrderEventSink {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Publishes the events as one {@link OrderEventsRelayedEvent}.
+     *
+     * @param events the events to deliver, in outbox order
+     */
+    @Override
+    public void deliver(List<OrderEvent> events) {
+        eventPublisher.publishEvent(new OrderEventsRelayedEvent(events));
+    }
+}
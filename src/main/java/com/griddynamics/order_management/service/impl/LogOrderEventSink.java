@@ -0,0 +1,66 @@
+package com.griddynamics.order_management.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.griddynamics.order_management.dto.OrderEvent;
+import com.griddynamics.order_management.service.OrderEventSink;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Implementation of {@link OrderEventSink} that writes every event as one JSON line to the
+ * {@code order-events} logger ({@code orders.outbox.sink=log}).
+ * <p>
+ * Stand-in for a message broker: the logger can be routed to its own file, e.g. with
+ * {@code logging.file.name} or a dedicated appender, and tailed by downstream systems.
+ * The logger must be enabled at INFO level: the application does not start otherwise, and if
+ * the level is lowered at runtime, delivery fails so that the events stay in the outbox.
+ * </p>
+ */
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "orders.outbox.sink", havingValue = "log", matchIfMissing = true)
+public class LogOrderEventSink implements OrderEventSink {
+
+    private static final Logger EVENTS = LoggerFactory.getLogger("order-events");
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Refuses to start with a logger that would discard the events.
+     */
+    @PostConstruct
+    public void checkEnabled() {
+        if (!EVENTS.isInfoEnabled()) {
+            throw new IllegalStateException("The order-events logger must be enabled at INFO level "
+                    + "when orders.outbox.sink=log");
+        }
+    }
+
+    /**
+     * Logs the events at INFO level, one JSON line each.
+     *
+     * @param events the events to deliver, in outbox order
+     * @throws IllegalStateException if the {@code order-events} logger is not enabled at INFO level
+     */
+    @Override
+    public void deliver(List<OrderEvent> events) {
+        if (!EVENTS.isInfoEnabled()) {
+            throw new IllegalStateException("The order-events logger is not enabled at INFO level, "
+                    + events.size() + " order events were not delivered");
+        }
+        for (OrderEvent event : events) {
+            try {
+                EVENTS.info(objectMapper.writeValueAsString(event));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Could not serialize order event " + event.eventId(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.griddynamics.order_management.service.impl;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.griddynamics.order_management.dto.OrderExportRecord;
+import com.griddynamics.order_management.dto.OrderExportRow;
+import com.griddynamics.order_management.repository.OrderRepository;
+import com.griddynamics.order_management.service.OrderExportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Implementation of {@link OrderExportService} that streams NDJSON.
+ * <p>
+ * Orders and items are read as one forward-only stream of scalar rows rather than
+ * entities, so nothing accumulates in the persistence context and no per-order item
+ * query is issued. Consecutive rows of the same order are folded into one line.
+ * </p>
+ */
+@Service
+@RequiredArgsConstructor
+public class OrderExportServiceImpl implements OrderExportService {
+
+    /**
+     * Number of orders written between two flushes of the output.
+     */
+    private static final int FLUSH_INTERVAL = 1000;
+
+    private final OrderRepository orderRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Streams the orders of the period to {@code out} as NDJSON.
+     *
+     * @param from inclusive lower bound of the order date
+     * @param to exclusive upper bound of the order date
+     * @param out the stream to write to
+     * @return the number of exported orders
+     * @throws IOException if writing to the stream fails
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long exportOrders(LocalDateTime from, LocalDateTime to, OutputStream out) throws IOException {
+        long exported = 0;
+        try (Stream<OrderExportRow> rows = orderRepository.streamExportRows(from, to);
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+
+            OrderExportRecord current = null;
+            Iterator<OrderExportRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                OrderExportRow row = iterator.next();
+                if (current == null || !current.getId().equals(row.orderId())) {
+                    if (current != null) {
+                        write(generator, current);
+                        if (++exported % FLUSH_INTERVAL == 0) {
+                            generator.flush();
+                        }
+                    }
+                    current = new OrderExportRecord();
+                    current.setId(row.orderId());
+                    current.setCustomerId(row.customerId());
+                    current.setOrderDate(row.orderDate());
+                    current.setStatus(row.status());
+                }
+                if (row.itemId() != null) {
+                    current.getItems().add(new OrderExportRecord.Item(
+                            row.itemId(), row.productId(), row.quantity(), row.priceAtPurchase()));
+                }
+            }
+            if (current != null) {
+                write(generator, current);
+                exported++;
+            }
+            generator.flush();
+        }
+        return exported;
+    }
+
+    private static void write(JsonGenerator generator, OrderExportRecord record) throws IOException {
+        generator.writeObject(record);
+        generator.writeRaw('\n');
+    }
+}
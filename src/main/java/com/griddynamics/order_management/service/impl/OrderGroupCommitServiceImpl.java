@@ -0,0 +1,238 @@
+package com.griddynamics.order_management.service.impl;
+
+import com.griddynamics.order_management.dto.OrderDTO;
+import com.griddynamics.order_management.exception.CustomerNotFoundException;
+import com.griddynamics.order_management.exception.InsufficientStockException;
+import com.griddynamics.order_management.exception.OrderPlacementTimeoutException;
+import com.griddynamics.order_management.exception.ProductNotFoundException;
+import com.griddynamics.order_management.model.Order;
+import com.griddynamics.order_management.service.OrderGroupCommitService;
+import com.griddynamics.order_management.service.OrderService;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Implementation of {@link OrderGroupCommitService} with combiner threads.
+ * <p>
+ * Callers put their order on a queue of {@code orders.group-commit.queue-capacity} and wait
+ * up to {@code orders.group-commit.timeout-ms} for its outcome. Each of the
+ * {@code orders.group-commit.threads} combiners takes the oldest order, waits up to
+ * {@code orders.group-commit.max-wait-ms} for more until it holds
+ * {@code orders.group-commit.max-batch-size}, and places them with one
+ * {@link OrderService#placeOrderGroup} call. If the group as a whole fails, for instance on a
+ * database error, its orders are placed one by one so that only the affected callers fail.
+ * </p>
+ * <p>
+ * Orders are placed directly, without waiting, when group commit is disabled
+ * ({@code orders.group-commit.enabled=false}) or stopped, when the queue is full, or when the
+ * caller is already in a transaction, whose commit the order must be part of. On shutdown the
+ * combiners place what is queued; orders still queued when they have stopped are failed.
+ * Publishes {@code orders.group-commit.batch.size}.
+ * </p>
+ */
+@Slf4j
+@Service
+@Timed("service.calls")
+public class OrderGroupCommitServiceImpl implements OrderGroupCommitService {
+
+    private final OrderService orderService;
+    private final boolean enabled;
+    private final long maxWaitNanos;
+    private final int maxBatchSize;
+    private final int threadCount;
+    private final long timeoutMs;
+
+    private final BlockingQueue<Pending> queue;
+    private final List<Thread> combiners = new ArrayList<>();
+    private final DistributionSummary batchSizes;
+    private volatile boolean running;
+
+    public OrderGroupCommitServiceImpl(OrderService orderService,
+                                       MeterRegistry meterRegistry,
+                                       @Value("${orders.group-commit.enabled:true}") boolean enabled,
+                                       @Value("${orders.group-commit.max-wait-ms:2}") long maxWaitMs,
+                                       @Value("${orders.group-commit.max-batch-size:64}") int maxBatchSize,
+                                       @Value("${orders.group-commit.threads:2}") int threadCount,
+                                       @Value("${orders.group-commit.queue-capacity:1024}") int queueCapacity,
+                                       @Value("${orders.group-commit.timeout-ms:30000}") long timeoutMs) {
+        this.orderService = orderService;
+        this.enabled = enabled;
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMs);
+        this.maxBatchSize = maxBatchSize;
+        this.threadCount = threadCount;
+        this.timeoutMs = timeoutMs;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSizes = DistributionSummary.builder("orders.group-commit.batch.size")
+                .description("Orders placed per group commit")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Starts the combiner threads.
+     */
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        for (int i = 0; i < threadCount; i++) {
+            Thread combiner = new Thread(this::combine, "order-group-commit-" + i);
+            combiner.setDaemon(true);
+            combiner.start();
+            combiners.add(combiner);
+        }
+    }
+
+    /**
+     * Places what is still queued and stops the combiners, then fails the orders that are
+     * left because a combiner did not stop in time.
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        for (Thread combiner : combiners) {
+            combiner.join(TimeUnit.SECONDS.toMillis(10));
+        }
+        List<Pending> left = new ArrayList<>();
+        queue.drainTo(left);
+        left.forEach(pending -> pending.result().completeExceptionally(
+                new OrderPlacementTimeoutException("Order was not placed because the application is shutting down")));
+    }
+
+    /**
+     * Places an order together with orders of concurrent callers and waits for its outcome.
+     *
+     * @param orderDTO the data transfer object containing order details
+     * @return the created {@link Order} entity
+     * @throws CustomerNotFoundException if the customer does not exist
+     * @throws ProductNotFoundException if any product in the order is not found
+     * @throws InsufficientStockException if any product does not have sufficient stock
+     * @throws OrderPlacementTimeoutException if the order was not placed within {@code orders.group-commit.timeout-ms}
+     */
+    @Override
+    public Order placeOrder(OrderDTO orderDTO) throws CustomerNotFoundException, ProductNotFoundException, InsufficientStockException {
+        if (!running || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return orderService.placeOrder(orderDTO);
+        }
+        Pending pending = new Pending(orderDTO, new CompletableFuture<>());
+        if (!queue.offer(pending)) {
+            log.debug("Group commit queue is full, placing the order directly");
+            return orderService.placeOrder(orderDTO);
+        }
+        // shutdown may have drained the queue before the offer; take the order back if nobody else did
+        if (!running && queue.remove(pending)) {
+            return orderService.placeOrder(orderDTO);
+        }
+        try {
+            return pending.result().get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            if (queue.remove(pending)) {
+                throw new OrderPlacementTimeoutException("Order was not placed within " + timeoutMs + " ms, please retry");
+            }
+            throw new OrderPlacementTimeoutException("Order placement did not complete within " + timeoutMs
+                    + " ms; it may still be placed, check the customer's orders before retrying");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the order to be placed", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Combiner loop: collects a group and places it, until stopped and the queue is empty.
+     */
+    private void combine() {
+        List<Pending> group = new ArrayList<>(maxBatchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Pending first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                group.add(first);
+                long deadline = System.nanoTime() + maxWaitNanos;
+                while (group.size() < maxBatchSize) {
+                    queue.drainTo(group, maxBatchSize - group.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (group.size() >= maxBatchSize || remaining <= 0) {
+                        break;
+                    }
+                    Pending next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    group.add(next);
+                }
+                batchSizes.record(group.size());
+                place(group);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                group.forEach(pending -> pending.result().completeExceptionally(
+                        new IllegalStateException("Order placement was interrupted")));
+                return;
+            } catch (RuntimeException e) {
+                log.error("Order group commit failed", e);
+                group.forEach(pending -> pending.result().completeExceptionally(e));
+            } finally {
+                group.clear();
+            }
+        }
+    }
+
+    /**
+     * Places a group in one transaction and hands every caller its outcome.
+     */
+    private void place(List<Pending> group) {
+        List<OrderService.Placement> placements;
+        try {
+            placements = orderService.placeOrderGroup(group.stream().map(Pending::order).toList());
+        } catch (RuntimeException e) {
+            log.warn("Placing a group of {} orders failed, placing them one by one", group.size(), e);
+            group.forEach(this::placeAlone);
+            return;
+        }
+        for (int i = 0; i < group.size(); i++) {
+            OrderService.Placement placement = placements.get(i);
+            if (placement.error() == null) {
+                group.get(i).result().complete(placement.order());
+            } else {
+                group.get(i).result().completeExceptionally(placement.error());
+            }
+        }
+    }
+
+    private void placeAlone(Pending pending) {
+        try {
+            pending.result().complete(orderService.placeOrder(pending.order()));
+        } catch (RuntimeException e) {
+            pending.result().completeExceptionally(e);
+        }
+    }
+
+    /**
+     * An order waiting for a combiner, and where its outcome goes.
+     */
+    private record Pending(OrderDTO order, CompletableFuture<Order> result) {
+    }
+}
@@ -0,0 +1,240 @@
+package com.griddynamics.order_management.service.impl;
+
+import com.griddynamics.order_management.dto.OrderDTO;
+import com.griddynamics.order_management.dto.OrderIntakeStatus;
+import com.griddynamics.order_management.dto.OrderPlacementResult;
+import com.griddynamics.order_management.exception.CustomerNotFoundException;
+import com.griddynamics.order_management.exception.InsufficientStockException;
+import com.griddynamics.order_management.exception.IntakeQueueFullException;
+import com.griddynamics.order_management.exception.ProductNotFoundException;
+import com.griddynamics.order_management.exception.TrackingIdNotFoundException;
+import com.griddynamics.order_management.service.OrderIntakeService;
+import com.griddynamics.order_management.service.OrderService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Implementation of {@link OrderIntakeService} backed by an {@link ArrayBlockingQueue}.
+ * <p>
+ * {@code orders.intake.workers} threads each take the oldest submission plus whatever else is
+ * waiting, up to {@code orders.intake.batch-size}, and place them with one non-atomic
+ * {@link OrderService#placeOrders} call, so one rejected order does not affect the others.
+ * If the batch as a whole fails, its orders are retried one by one to find the culprit.
+ * Statuses are kept for {@code orders.intake.status-retention-ms} after completion and are
+ * removed by a sweep every {@code orders.intake.status-expiry-interval-ms}.
+ * </p>
+ * <p>
+ * Publishes {@code orders.intake.queue.depth} (gauge), {@code orders.intake.wait} (time from
+ * submission until a worker picks the order up), {@code orders.intake.batch.size} and
+ * {@code orders.intake.rejected} (submissions refused because the queue was full).
+ * </p>
+ */
+@Slf4j
+@Service
+public class OrderIntakeServiceImpl implements OrderIntakeService {
+
+    private final OrderService orderService;
+    private final BlockingQueue<Submission> queue;
+    private final int workerCount;
+    private final int batchSize;
+    private final long statusRetentionMs;
+
+    private final ConcurrentMap<String, OrderIntakeStatus> statuses = new ConcurrentHashMap<>();
+    private final List<Thread> workers = new ArrayList<>();
+    private volatile boolean running;
+
+    private final Timer waitTimer;
+    private final DistributionSummary batchSizes;
+    private final Counter rejected;
+
+    public OrderIntakeServiceImpl(OrderService orderService,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${orders.intake.queue-capacity:1000}") int queueCapacity,
+                                  @Value("${orders.intake.workers:2}") int workerCount,
+                                  @Value("${orders.intake.batch-size:50}") int batchSize,
+                                  @Value("${orders.intake.status-retention-ms:600000}") long statusRetentionMs) {
+        this.orderService = orderService;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.workerCount = workerCount;
+        this.batchSize = batchSize;
+        this.statusRetentionMs = statusRetentionMs;
+
+        Gauge.builder("orders.intake.queue.depth", queue, BlockingQueue::size)
+                .description("Orders waiting in the intake queue")
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder("orders.intake.wait")
+                .description("Time orders spent in the intake queue")
+                .register(meterRegistry);
+        this.batchSizes = DistributionSummary.builder("orders.intake.batch.size")
+                .description("Orders placed per intake batch")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("orders.intake.rejected")
+                .description("Orders refused because the intake queue was full")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Starts the workers.
+     */
+    @PostConstruct
+    public void start() {
+        running = true;
+        for (int i = 0; i < workerCount; i++) {
+            Thread worker = new Thread(this::work, "order-intake-" + i);
+            worker.setDaemon(true);
+            worker.start();
+            workers.add(worker);
+        }
+    }
+
+    /**
+     * Stops accepting orders and lets the workers place what is still queued.
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        for (Thread worker : workers) {
+            worker.join(TimeUnit.SECONDS.toMillis(10));
+        }
+        if (!queue.isEmpty()) {
+            log.warn("{} queued orders were not placed before shutdown", queue.size());
+        }
+    }
+
+    /**
+     * Enqueues an order for placement.
+     *
+     * @param orderDTO the order to place
+     * @return the {@code QUEUED} status with the tracking ID
+     * @throws IntakeQueueFullException if the queue has no room left or the service is stopping
+     */
+    @Override
+    public OrderIntakeStatus submit(OrderDTO orderDTO) throws IntakeQueueFullException {
+        OrderIntakeStatus status = new OrderIntakeStatus(UUID.randomUUID().toString(),
+                OrderIntakeStatus.State.QUEUED, null, null, Instant.now(), null);
+        statuses.put(status.trackingId(), status);
+        if (!running || !queue.offer(new Submission(status.trackingId(), orderDTO, System.nanoTime()))) {
+            statuses.remove(status.trackingId());
+            rejected.increment();
+            throw new IntakeQueueFullException("Order intake queue is full, please retry later");
+        }
+        return status;
+    }
+
+    /**
+     * Retrieves the status of a submitted order.
+     *
+     * @param trackingId the tracking ID returned by {@link #submit(OrderDTO)}
+     * @return the current status
+     * @throws TrackingIdNotFoundException if the ID is unknown or its status has expired
+     */
+    @Override
+    public OrderIntakeStatus getStatus(String trackingId) throws TrackingIdNotFoundException {
+        OrderIntakeStatus status = statuses.get(trackingId);
+        if (status == null) {
+            throw new TrackingIdNotFoundException("No order submission found with tracking id: " + trackingId);
+        }
+        return status;
+    }
+
+    /**
+     * Forgets the statuses of submissions completed longer than the retention period ago.
+     * Runs on its own short interval, so a status outlives the retention period by at most
+     * that interval.
+     */
+    @Scheduled(fixedDelayString = "${orders.intake.status-expiry-interval-ms:60000}")
+    public void expireStatuses() {
+        Instant cutoff = Instant.now().minusMillis(statusRetentionMs);
+        statuses.values().removeIf(status -> status.completedAt() != null && status.completedAt().isBefore(cutoff));
+    }
+
+    /**
+     * Worker loop: waits for an order, drains a batch and places it, until stopped and the queue is empty.
+     */
+    private void work() {
+        List<Submission> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Submission first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                long now = System.nanoTime();
+                batch.forEach(submission -> waitTimer.record(now - submission.enqueuedNanos(), TimeUnit.NANOSECONDS));
+                batchSizes.record(batch.size());
+                place(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Order intake worker failed", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Places a batch and records the outcome of every order in it.
+     */
+    private void place(List<Submission> batch) {
+        List<OrderPlacementResult> results;
+        try {
+            results = orderService.placeOrders(batch.stream().map(Submission::order).toList(), false);
+        } catch (RuntimeException e) {
+            log.warn("Placing a batch of {} queued orders failed, placing them one by one", batch.size(), e);
+            batch.forEach(this::placeAlone);
+            return;
+        }
+        for (OrderPlacementResult result : results) {
+            Submission submission = batch.get(result.getIndex());
+            if (result.getStatus() == OrderPlacementResult.Status.CREATED) {
+                complete(submission, OrderIntakeStatus.State.PLACED, result.getOrderId(), null);
+            } else {
+                complete(submission, OrderIntakeStatus.State.REJECTED, null, result.getError());
+            }
+        }
+    }
+
+    private void placeAlone(Submission submission) {
+        try {
+            Long orderId = orderService.placeOrder(submission.order()).getId();
+            complete(submission, OrderIntakeStatus.State.PLACED, orderId, null);
+        } catch (CustomerNotFoundException | ProductNotFoundException | InsufficientStockException e) {
+            complete(submission, OrderIntakeStatus.State.REJECTED, null, e.getMessage());
+        } catch (RuntimeException e) {
+            complete(submission, OrderIntakeStatus.State.FAILED, null, e.getMessage());
+        }
+    }
+
+    private void complete(Submission submission, OrderIntakeStatus.State state, Long orderId, String error) {
+        statuses.computeIfPresent(submission.trackingId(), (id, status) -> status.complete(state, orderId, error));
+    }
+
+    /**
+     * An order waiting in the queue.
+     */
+    private record Submission(String trackingId, OrderDTO order, long enqueuedNanos) {
+    }
+}
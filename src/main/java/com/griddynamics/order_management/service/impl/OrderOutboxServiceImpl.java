@@ -0,0 +1,194 @@
+package com.griddynamics.order_management.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.griddynamics.order_management.dto.OrderDetail;
+import com.griddynamics.order_management.dto.OrderEvent;
+import com.griddynamics.order_management.model.Order;
+import com.griddynamics.order_management.model.OrderItem;
+import com.griddynamics.order_management.model.OrderOutboxEntry;
+import com.griddynamics.order_management.repository.OrderOutboxRepository;
+import com.griddynamics.order_management.service.OrderEventSink;
+import com.griddynamics.order_management.service.OrderOutboxService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Implementation of {@link OrderOutboxService} backed by the {@code order_outbox} table.
+ * <p>
+ * Recording only adds rows to the caller's transaction; their inserts are batched with
+ * those of the orders. Every {@code orders.outbox.relay-interval-ms} the relay reads up to
+ * {@code orders.outbox.batch-size} entries in ID order, hands them to the
+ * {@link OrderEventSink} and deletes them, repeating while full batches are found, for at most
+ * {@code orders.outbox.max-batches-per-run} batches, so that a backlog does not hold the
+ * scheduler thread for long; the next run continues where this one stopped. No
+ * transaction is held open during delivery. If the sink fails, the batch stays in the outbox
+ * and the relay stops until the next run, so no event overtakes an earlier one of the same
+ * order; an event is delivered again if the application stops between delivery and deletion.
+ * </p>
+ * <p>
+ * Publishes {@code orders.outbox.delivered}, {@code orders.outbox.delivery.failures},
+ * {@code orders.outbox.delivery} (time per batch handed to the sink) and
+ * {@code orders.outbox.lag} (time from the change until its event was delivered).
+ * </p>
+ */
+@Slf4j
+@Service
+public class OrderOutboxServiceImpl implements OrderOutboxService {
+
+    private final OrderOutboxRepository outboxRepository;
+    private final OrderEventSink sink;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+
+    private final Counter delivered;
+    private final Counter failures;
+    private final Timer deliveryTimer;
+    private final Timer lagTimer;
+
+    /**
+     * Serializes relay runs, so that two of them never deliver the same entries concurrently.
+     */
+    private final Lock relayLock = new ReentrantLock();
+
+    public OrderOutboxServiceImpl(OrderOutboxRepository outboxRepository,
+                                  OrderEventSink sink,
+                                  ObjectMapper objectMapper,
+                                  PlatformTransactionManager transactionManager,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${orders.outbox.batch-size:500}") int batchSize,
+                                  @Value("${orders.outbox.max-batches-per-run:20}") int maxBatchesPerRun) {
+        this.outboxRepository = outboxRepository;
+        this.sink = sink;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+
+        this.delivered = Counter.builder("orders.outbox.delivered")
+                .description("Order events delivered to the sink")
+                .register(meterRegistry);
+        this.failures = Counter.builder("orders.outbox.delivery.failures")
+                .description("Outbox batches the sink failed to accept")
+                .register(meterRegistry);
+        this.deliveryTimer = Timer.builder("orders.outbox.delivery")
+                .description("Time the sink took per batch of order events")
+                .register(meterRegistry);
+        this.lagTimer = Timer.builder("orders.outbox.lag")
+                .description("Time from an order change until its event was delivered")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Records an {@code ORDER_PLACED} event with the items of each order.
+     *
+     * @param orders the saved orders, with their items
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordPlaced(Collection<Order> orders) {
+        List<OrderOutboxEntry> entries = new ArrayList<>(orders.size());
+        for (Order order : orders) {
+            List<OrderDetail.Item> items = new ArrayList<>(order.getOrderItems().size());
+            for (OrderItem item : order.getOrderItems()) {
+                items.add(new OrderDetail.Item(item.getId(), item.getProduct().getId(), item.getProduct().getName(),
+                        item.getQuantity(), item.getPriceAtPurchase()));
+            }
+            entries.add(entry(order, OrderEvent.Type.ORDER_PLACED,
+                    new OrderEvent.Details(order.getCustomer().getId(), null, order.getStatus(), items)));
+        }
+        outboxRepository.saveAll(entries);
+    }
+
+    /**
+     * Records an {@code ORDER_CANCELLED} or {@code ORDER_STATUS_CHANGED} event, unless the
+     * status did not change.
+     *
+     * @param order the order with its new status
+     * @param previousStatus the status before the change
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordStatusChange(Order order, Order.OrderStatus previousStatus) {
+        if (order.getStatus() == previousStatus) {
+            return;
+        }
+        OrderEvent.Type type = order.getStatus() == Order.OrderStatus.CANCELLED
+                ? OrderEvent.Type.ORDER_CANCELLED
+                : OrderEvent.Type.ORDER_STATUS_CHANGED;
+        outboxRepository.save(entry(order, type,
+                new OrderEvent.Details(order.getCustomer().getId(), previousStatus, order.getStatus(), null)));
+    }
+
+    /**
+     * Delivers outbox entries to the sink in batches until the outbox is drained, the sink fails
+     * or {@code orders.outbox.max-batches-per-run} batches were delivered.
+     *
+     * @return number of events delivered
+     */
+    @Override
+    @Scheduled(fixedDelayString = "${orders.outbox.relay-interval-ms:200}")
+    public int relay() {
+        int total = 0;
+        int batches = 0;
+        relayLock.lock();
+        try {
+            List<OrderOutboxEntry> entries;
+            do {
+                entries = outboxRepository.findOldest(PageRequest.of(0, batchSize));
+                if (entries.isEmpty()) {
+                    break;
+                }
+                List<OrderEvent> events = entries.stream()
+                        .map(entry -> new OrderEvent(entry.getId(), entry.getOrderId(), entry.getType(),
+                                entry.getCreatedAt(), entry.getPayload()))
+                        .toList();
+                try {
+                    deliveryTimer.record(() -> sink.deliver(events));
+                } catch (RuntimeException e) {
+                    failures.increment();
+                    log.warn("Delivering {} order events failed, retrying on the next run", events.size(), e);
+                    break;
+                }
+                LocalDateTime now = LocalDateTime.now();
+                entries.forEach(entry -> lagTimer.record(Duration.between(entry.getCreatedAt(), now)));
+                List<Long> ids = entries.stream().map(OrderOutboxEntry::getId).toList();
+                transactionTemplate.executeWithoutResult(status -> outboxRepository.deleteByIdIn(ids));
+                delivered.increment(entries.size());
+                total += entries.size();
+            } while (entries.size() == batchSize && ++batches < maxBatchesPerRun);
+        } finally {
+            relayLock.unlock();
+        }
+        return total;
+    }
+
+    private OrderOutboxEntry entry(Order order, OrderEvent.Type type, OrderEvent.Details details) {
+        try {
+            return new OrderOutboxEntry(null, order.getId(), type, objectMapper.writeValueAsString(details),
+                    LocalDateTime.now());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize " + type + " event of order " + order.getId(), e);
+        }
+    }
+}
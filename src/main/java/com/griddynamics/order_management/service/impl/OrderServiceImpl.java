@@ -1,47 +1,72 @@
 package com.griddynamics.order_management.service.impl;
 
 import com.griddynamics.order_management.dto.*;
+import com.griddynamics.order_management.event.OrderStatusChangedEvent;
 import com.griddynamics.order_management.exception.CustomerNotFoundException;
 import com.griddynamics.order_management.exception.InsufficientStockException;
+import com.griddynamics.order_management.exception.InvalidCursorException;
 import com.griddynamics.order_management.exception.OrderNotFoundException;
 import com.griddynamics.order_management.exception.ProductNotFoundException;
+import com.griddynamics.order_management.metrics.DomainMetrics;
 import com.griddynamics.order_management.model.Customer;
 import com.griddynamics.order_management.model.Order;
 import com.griddynamics.order_management.model.OrderItem;
 import com.griddynamics.order_management.model.Product;
 import com.griddynamics.order_management.repository.OrderRepository;
+import com.griddynamics.order_management.retry.RetryOnConflict;
 import com.griddynamics.order_management.service.CustomerService;
+import com.griddynamics.order_management.service.OrderOutboxService;
 import com.griddynamics.order_management.service.OrderService;
 import com.griddynamics.order_management.service.ProductService;
+import com.griddynamics.order_management.service.StockReservationService;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Implementation of the {@link OrderService} interface, providing business logic
  * for placing, updating, retrieving, and canceling customer orders.
  * <p>
  * This service handles stock validation, entity relationships, and transactional integrity.
+ * Placements and status changes are recorded in the {@link OrderOutboxService} in the same
+ * transaction, and status changes are also published as {@link OrderStatusChangedEvent}s.
  * </p>
  */
 @Service
+@Timed("service.calls")
 @RequiredArgsConstructor
 public class OrderServiceImpl implements OrderService {
 
     private final OrderRepository orderRepository;
     private final CustomerService customerService;
     private final ProductService productService;
-    private final ModelMapper modelMapper;
+    private final StockReservationService stockReservationService;
+    private final DomainMetrics domainMetrics;
+    private final OrderOutboxService orderOutboxService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Places a new order after validating customer and product data, and stock availability.
+     * <p>
+     * Quantities are aggregated per product and reserved in one batch, so the number of
+     * product round trips does not grow with the number of order lines. The placement is
+     * retried as a whole if it conflicts with a concurrent update.
+     * </p>
      *
      * @param orderDTO the data transfer object containing order details
      * @return the created {@link Order} entity
@@ -50,43 +75,170 @@ public class OrderServiceImpl implements OrderService {
      * @throws InsufficientStockException if any product lacks sufficient stock
      */
     @Override
+    @RetryOnConflict
     @Transactional
     public Order placeOrder(OrderDTO orderDTO) throws CustomerNotFoundException, ProductNotFoundException, InsufficientStockException {
         Customer customer = customerService.getCustomerById(orderDTO.getCustomerId());
+        Map<Long, Product> products = productService.reserveStock(quantitiesOf(orderDTO));
+        Order order = orderRepository.save(newOrder(customer, orderDTO, products));
+        orderOutboxService.recordPlaced(List.of(order));
+        return order;
+    }
+
+    /**
+     * Places several orders in one transaction.
+     * <p>
+     * Customers and products for the whole batch are loaded with one query each, stock is
+     * reserved per order through the {@link StockReservationService}, and the created orders
+     * are saved together so their rows are inserted in JDBC batches. Per-order failures are
+     * detected without throwing across transactional boundaries, so a rejected order does not
+     * roll back the rest of the batch.
+     * </p>
+     *
+     * @param orderDTOs the orders to place
+     * @param atomic whether the batch is all-or-nothing
+     * @return one result per submitted order, in submission order
+     */
+    @Override
+    @Transactional
+    public List<OrderPlacementResult> placeOrders(List<OrderDTO> orderDTOs, boolean atomic)
+            throws CustomerNotFoundException, ProductNotFoundException, InsufficientStockException {
+        List<Placement> placements = placeAll(orderDTOs, atomic);
+        List<OrderPlacementResult> results = new ArrayList<>(placements.size());
+        for (int i = 0; i < placements.size(); i++) {
+            Placement placement = placements.get(i);
+            results.add(placement.error() == null
+                    ? new OrderPlacementResult(i, placement.order().getId(), OrderPlacementResult.Status.CREATED, null)
+                    : new OrderPlacementResult(i, null, OrderPlacementResult.Status.REJECTED, placement.error().getMessage()));
+        }
+        return results;
+    }
+
+    /**
+     * Places orders of independent callers in one transaction, like a non-atomic
+     * {@link #placeOrders(List, boolean)}, keeping the created order or the exception of each.
+     *
+     * @param orderDTOs the orders to place
+     * @return one {@link Placement} per submitted order, in submission order
+     */
+    @Override
+    @Transactional
+    public List<Placement> placeOrderGroup(List<OrderDTO> orderDTOs) {
+        return placeAll(orderDTOs, false);
+    }
+
+    /**
+     * Resolves the customers and products of all orders, reserves stock order by order and
+     * saves the created orders together.
+     *
+     * @param atomic whether to throw the first per-order failure instead of recording it
+     */
+    private List<Placement> placeAll(List<OrderDTO> orderDTOs, boolean atomic) {
+        Set<Long> customerIds = new HashSet<>();
+        Set<Long> productIds = new HashSet<>();
+        for (OrderDTO orderDTO : orderDTOs) {
+            if (orderDTO.getCustomerId() != null) {
+                customerIds.add(orderDTO.getCustomerId());
+            }
+            productIds.addAll(quantitiesOf(orderDTO).keySet());
+        }
+        Map<Long, Customer> customers = customerService.getCustomersByIds(customerIds);
+        Map<Long, Product> products = productService.getProductsByIds(productIds);
+
+        List<Placement> placements = new ArrayList<>(orderDTOs.size());
+        List<Order> orders = new ArrayList<>();
+        for (OrderDTO orderDTO : orderDTOs) {
+            try {
+                Order order = reserveOrder(orderDTO, customers, products);
+                orders.add(order);
+                placements.add(new Placement(order, null));
+            } catch (CustomerNotFoundException | ProductNotFoundException | InsufficientStockException e) {
+                if (atomic) {
+                    throw e;
+                }
+                placements.add(new Placement(null, e));
+            }
+        }
+
+        orderRepository.saveAll(orders);
+        orderOutboxService.recordPlaced(orders);
+        return placements;
+    }
+
+    /**
+     * Validates one order of a batch against the preloaded customers and products and
+     * reserves its stock.
+     *
+     * @return the new, not yet saved {@link Order}
+     */
+    private Order reserveOrder(OrderDTO orderDTO, Map<Long, Customer> customers, Map<Long, Product> products) {
+        Customer customer = customers.get(orderDTO.getCustomerId());
+        if (customer == null) {
+            domainMetrics.notFound(Customer.class);
+            throw new CustomerNotFoundException("Customer not found with id: " + orderDTO.getCustomerId());
+        }
+
+        Map<Long, Integer> quantities = quantitiesOf(orderDTO);
+        List<Long> missing = quantities.keySet().stream()
+                .filter(id -> !products.containsKey(id))
+                .toList();
+        if (!missing.isEmpty()) {
+            domainMetrics.notFound(Product.class);
+            throw new ProductNotFoundException("Product not found with id: " + missing);
+        }
+
+        Map<Long, Integer> shortages = stockReservationService.reserve(quantities);
+        if (!shortages.isEmpty()) {
+            domainMetrics.insufficientStock();
+            throw StockShortages.toException(shortages, products, quantities);
+        }
+        return newOrder(customer, orderDTO, products);
+    }
+
+    /**
+     * Aggregates the requested quantities of an order per product.
+     */
+    private static Map<Long, Integer> quantitiesOf(OrderDTO orderDTO) {
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
+        if (orderDTO.getOrderItems() != null) {
+            for (OrderItemDTO itemDTO : orderDTO.getOrderItems()) {
+                quantities.merge(itemDTO.getProductId(), itemDTO.getQuantity(), Integer::sum);
+            }
+        }
+        return quantities;
+    }
 
+    /**
+     * Builds a new PLACED order with one item per order line, priced at the current product price.
+     */
+    private static Order newOrder(Customer customer, OrderDTO orderDTO, Map<Long, Product> products) {
         Order order = new Order();
         order.setCustomer(customer);
         order.setOrderDate(LocalDateTime.now());
         order.setStatus(Order.OrderStatus.PLACED);
 
         List<OrderItem> orderItems = new ArrayList<>();
-        for (OrderItemDTO itemDTO : orderDTO.getOrderItems()) {
-            Product product = productService.getProductById(itemDTO.getProductId());
-
-            if (product.getStockQuantity() < itemDTO.getQuantity()) {
-                throw new InsufficientStockException("Insufficient stock for product: " + product.getName() +
-                        ". Available: " + product.getStockQuantity() +
-                        ", Requested: " + itemDTO.getQuantity());
-            }
-
-            OrderItem orderItem = new OrderItem();
-            orderItem.setOrder(order);
-            orderItem.setProduct(product);
-            orderItem.setQuantity(itemDTO.getQuantity());
-            orderItem.setPriceAtPurchase(product.getPrice());
+        if (orderDTO.getOrderItems() != null) {
+            for (OrderItemDTO itemDTO : orderDTO.getOrderItems()) {
+                Product product = products.get(itemDTO.getProductId());
 
-            orderItems.add(orderItem);
+                OrderItem orderItem = new OrderItem();
+                orderItem.setOrder(order);
+                orderItem.setProduct(product);
+                orderItem.setQuantity(itemDTO.getQuantity());
+                orderItem.setPriceAtPurchase(product.getPrice());
 
-            product.setStockQuantity(product.getStockQuantity() - itemDTO.getQuantity());
-            productService.createProduct(modelMapper.map(product, ProductDTO.class));
+                orderItems.add(orderItem);
+            }
         }
 
         order.setOrderItems(orderItems);
-        return orderRepository.save(order);
+        return order;
     }
 
     /**
-     * Retrieves an order by its unique identifier.
+     * Retrieves an order by its unique identifier, together with its customer, items
+     * and item products in one query.
      *
      * @param id the order ID
      * @return the corresponding {@link Order} entity
@@ -95,18 +247,54 @@ public class OrderServiceImpl implements OrderService {
     @Override
     @Transactional(readOnly = true)
     public Order getOrderById(Long id) throws OrderNotFoundException {
-        return orderRepository.findById(id)
-                .orElseThrow(() -> new OrderNotFoundException("Order not found with id: " + id));
+        return orderRepository.findWithItemsById(id)
+                .orElseThrow(() -> {
+                    domainMetrics.notFound(Order.class);
+                    return new OrderNotFoundException("Order not found with id: " + id);
+                });
+    }
+
+    /**
+     * Retrieves the read model of an order with its items.
+     * The order, customer, items and products are selected as one flat projection,
+     * so no entity is loaded into the persistence context.
+     *
+     * @param id the order ID
+     * @return the corresponding {@link OrderDetail}
+     * @throws OrderNotFoundException if the order does not exist
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public OrderDetail getOrderDetail(Long id) throws OrderNotFoundException {
+        List<OrderDetailRow> rows = orderRepository.findDetailRows(id);
+        if (rows.isEmpty()) {
+            domainMetrics.notFound(Order.class);
+            throw new OrderNotFoundException("Order not found with id: " + id);
+        }
+        OrderDetailRow first = rows.get(0);
+        List<OrderDetail.Item> items = new ArrayList<>(rows.size());
+        for (OrderDetailRow row : rows) {
+            if (row.itemId() != null) {
+                items.add(new OrderDetail.Item(
+                        row.itemId(), row.productId(), row.productName(), row.quantity(), row.priceAtPurchase()));
+            }
+        }
+        return new OrderDetail(first.orderId(), first.customerId(), first.customerName(),
+                first.orderDate(), first.status(), items);
     }
 
     /**
      * Cancels an order by setting its status to CANCELLED and restocking the associated products.
+     * Stock is returned with atomic increments rather than by saving the product entities.
+     * If the order is cancelled or updated concurrently, the version check rolls this attempt back,
+     * including the returned stock, and the retry sees the new status.
      *
      * @param id the ID of the order to cancel
      * @return the updated {@link Order} entity
      * @throws OrderNotFoundException if the order does not exist
      */
     @Override
+    @RetryOnConflict
     @Transactional
     public Order cancelOrder(Long id) throws OrderNotFoundException {
         Order order = getOrderById(id);
@@ -114,22 +302,21 @@ public class OrderServiceImpl implements OrderService {
             return order;
         }
 
+        Map<Long, Integer> quantities = new HashMap<>();
         for (OrderItem item : order.getOrderItems()) {
-            Product product = item.getProduct();
-            product.setStockQuantity(product.getStockQuantity() + item.getQuantity());
-            try {
-                productService.createProduct(modelMapper.map(product, ProductDTO.class));
-            } catch (ProductNotFoundException e) {
-                throw new RuntimeException("Product not found during cancellation: " + product.getId(), e);
-            }
+            quantities.merge(item.getProduct().getId(), item.getQuantity(), Integer::sum);
         }
+        productService.releaseStock(quantities);
 
+        Order.OrderStatus previousStatus = order.getStatus();
         order.setStatus(Order.OrderStatus.CANCELLED);
+        recordStatusChange(order, previousStatus);
         return orderRepository.save(order);
     }
 
     /**
      * Updates the status of an existing order.
+     * Retried if the order is modified concurrently.
      *
      * @param id the ID of the order to update
      * @param statusUpdateDTO DTO containing the new status
@@ -137,30 +324,97 @@ public class OrderServiceImpl implements OrderService {
      * @throws OrderNotFoundException if the order does not exist
      */
     @Override
+    @RetryOnConflict
     @Transactional
     public Order updateOrderStatus(Long id, OrderStatusUpdateDTO statusUpdateDTO) throws OrderNotFoundException {
         Order order = getOrderById(id);
+        Order.OrderStatus previousStatus = order.getStatus();
         order.setStatus(statusUpdateDTO.getStatus());
+        recordStatusChange(order, previousStatus);
         return orderRepository.save(order);
     }
 
     /**
-     * Retrieves all orders placed by a specific customer.
+     * Records a status change in the outbox and publishes it to in-process listeners.
+     */
+    private void recordStatusChange(Order order, Order.OrderStatus previousStatus) {
+        orderOutboxService.recordStatusChange(order, previousStatus);
+        if (order.getStatus() != previousStatus) {
+            eventPublisher.publishEvent(new OrderStatusChangedEvent(order.getId(), order.getCustomer().getId(),
+                    previousStatus, order.getStatus(), LocalDateTime.now()));
+        }
+    }
+
+    /**
+     * Retrieves summaries of all orders placed by a specific customer in one query.
+     * The customer is only looked up when no orders are found, to tell an unknown
+     * customer from one without orders.
      *
      * @param customerId the ID of the customer
-     * @return list of {@link Order} entities belonging to the customer
+     * @return list of {@link OrderSummary} records, ordered by order ID
      * @throws CustomerNotFoundException if the customer does not exist
      */
     @Override
     @Transactional(readOnly = true)
-    public List<Order> getOrdersByCustomerId(Long customerId) throws CustomerNotFoundException {
-        Customer customer = customerService.getCustomerById(customerId);
-        return orderRepository.findByCustomer(customer);
+    public List<OrderSummary> getOrdersByCustomerId(Long customerId) throws CustomerNotFoundException {
+        List<OrderSummary> orders = orderRepository.findSummariesByCustomerId(customerId);
+        if (orders.isEmpty()) {
+            customerService.getCustomerById(customerId);
+        }
+        return orders;
     }
 
+    /**
+     * Retrieves a page of order summaries with item counts and totals,
+     * selected by one aggregate query plus the count query.
+     *
+     * @param pageable the pagination information (page, size, sort)
+     * @return page of {@link OrderSummary} records
+     */
     @Override
     @Transactional(readOnly = true)
-    public Page<Order> getAllOrders(Pageable pageable) {
-        return orderRepository.findAll(pageable);
+    public Page<OrderSummary> getAllOrders(Pageable pageable) {
+        return orderRepository.findSummaries(pageable);
+    }
+
+    /**
+     * Retrieves a slice of order summaries using keyset pagination over {@code (orderDate, id)}.
+     * <p>
+     * The slice is resolved as a limited ID query served by the {@code (order_date, id)} index,
+     * followed by one aggregate query that selects the summaries of just those orders.
+     * </p>
+     *
+     * @param after the cursor returned with the previous slice, or {@code null} for the first slice
+     * @param size the maximum number of orders to return
+     * @return a {@link CursorResponse} of {@link OrderSummary} records
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorResponse<OrderSummary> getOrdersAfter(String after, int size) {
+        KeysetCursor cursor = KeysetCursor.decode(after);
+        int limit = KeysetCursor.clampSize(size);
+        List<Long> ids;
+        if (cursor == null) {
+            ids = orderRepository.findFirstIds(Limit.of(limit + 1));
+        } else {
+            LocalDateTime orderDate;
+            try {
+                orderDate = LocalDateTime.parse(cursor.key());
+            } catch (DateTimeParseException e) {
+                throw new InvalidCursorException("Invalid cursor: " + after);
+            }
+            ids = orderRepository.findIdsAfter(orderDate, cursor.id(), Limit.of(limit + 1));
+        }
+        if (ids.isEmpty()) {
+            return new CursorResponse<>(List.of(), null);
+        }
+
+        boolean hasNext = ids.size() > limit;
+        List<OrderSummary> orders = orderRepository.findSummariesByIdIn(hasNext ? ids.subList(0, limit) : ids);
+        if (!hasNext) {
+            return new CursorResponse<>(orders, null);
+        }
+        OrderSummary last = orders.get(orders.size() - 1);
+        return new CursorResponse<>(orders, new KeysetCursor(last.orderDate().toString(), last.id()).encode());
     }
 }
@@ -0,0 +1,298 @@
+package com.griddynamics.order_management.service.impl;
+
+import com.griddynamics.order_management.dto.OrderDetail;
+import com.griddynamics.order_management.event.OrderStatusChangedEvent;
+import com.griddynamics.order_management.exception.CustomerNotFoundException;
+import com.griddynamics.order_management.exception.OrderNotFoundException;
+import com.griddynamics.order_management.service.CustomerService;
+import com.griddynamics.order_management.service.OrderService;
+import com.griddynamics.order_management.service.OrderStatusStreamService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Implementation of {@link OrderStatusStreamService} with an in-memory fan-out.
+ * <p>
+ * Subscriptions are indexed by order and by customer. An idle subscription is an open
+ * asynchronous request plus a small buffer, and holds no thread and no database connection.
+ * Committed {@link OrderStatusChangedEvent}s are only offered to the buffers of the matching
+ * subscribers, so the committing thread never waits for a client; each subscriber with pending
+ * events is drained by its own virtual thread. A subscriber whose buffer of
+ * {@code orders.events.buffer-size} events is full is evicted: its stream is completed and
+ * the client reconnects and reads the current state. Streams end after
+ * {@code orders.events.timeout-ms}, and idle streams get a comment every
+ * {@code orders.events.heartbeat-ms} so that proxies keep them open.
+ * </p>
+ * <p>
+ * Publishes {@code orders.events.subscribers} (gauge), {@code orders.events.sent} and
+ * {@code orders.events.evicted}.
+ * </p>
+ */
+@Slf4j
+@Service
+public class OrderStatusStreamServiceImpl implements OrderStatusStreamService {
+
+    private static final String EVENT_NAME = "status";
+
+    private final OrderService orderService;
+    private final CustomerService customerService;
+    private final int bufferSize;
+    private final long timeoutMs;
+
+    private final ConcurrentMap<Long, Set<Subscriber>> byOrder = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, Set<Subscriber>> byCustomer = new ConcurrentHashMap<>();
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final Counter sent;
+    private final Counter evicted;
+
+    public OrderStatusStreamServiceImpl(OrderService orderService,
+                                        CustomerService customerService,
+                                        MeterRegistry meterRegistry,
+                                        @Value("${orders.events.buffer-size:16}") int bufferSize,
+                                        @Value("${orders.events.timeout-ms:1800000}") long timeoutMs) {
+        this.orderService = orderService;
+        this.customerService = customerService;
+        this.bufferSize = bufferSize;
+        this.timeoutMs = timeoutMs;
+
+        Gauge.builder("orders.events.subscribers", subscribers, Set::size)
+                .description("Open order status streams")
+                .register(meterRegistry);
+        this.sent = Counter.builder("orders.events.sent")
+                .description("Order status events sent to subscribers")
+                .register(meterRegistry);
+        this.evicted = Counter.builder("orders.events.evicted")
+                .description("Order status streams closed because the subscriber fell behind")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Subscribes to one order and queues its current status.
+     * <p>
+     * The subscription is registered before the status is read, so no change committed in
+     * between is lost. The status read is only queued if no change has arrived meanwhile,
+     * because such a change is at least as recent.
+     * </p>
+     *
+     * @param orderId the ID of the order
+     * @return the emitter streaming the events
+     * @throws OrderNotFoundException if the order does not exist
+     */
+    @Override
+    public SseEmitter subscribeToOrder(Long orderId) throws OrderNotFoundException {
+        Subscriber subscriber = subscribe(byOrder, orderId);
+        OrderDetail order;
+        try {
+            order = orderService.getOrderDetail(orderId);
+        } catch (RuntimeException e) {
+            subscriber.remove();
+            throw e;
+        }
+        if (!subscriber.offered) {
+            subscriber.offer(new OrderStatusChangedEvent(order.id(), order.customerId(), null, order.status(),
+                    LocalDateTime.now()));
+        }
+        return subscriber.emitter;
+    }
+
+    /**
+     * Subscribes to all orders of a customer.
+     *
+     * @param customerId the ID of the customer
+     * @return the emitter streaming the events
+     * @throws CustomerNotFoundException if the customer does not exist
+     */
+    @Override
+    public SseEmitter subscribeToCustomer(Long customerId) throws CustomerNotFoundException {
+        customerService.getCustomerById(customerId);
+        return subscribe(byCustomer, customerId).emitter;
+    }
+
+    /**
+     * Offers a committed status change to the subscribers of its order and of its customer.
+     *
+     * @param event the status change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStatusChanged(OrderStatusChangedEvent event) {
+        fanOut(byOrder.get(event.orderId()), event);
+        fanOut(byCustomer.get(event.customerId()), event);
+    }
+
+    /**
+     * Asks every stream for a heartbeat comment, sent only if it has nothing else to send.
+     */
+    @Scheduled(fixedDelayString = "${orders.events.heartbeat-ms:15000}")
+    public void heartbeat() {
+        subscribers.forEach(Subscriber::requestHeartbeat);
+    }
+
+    /**
+     * Completes all streams; clients reconnect to another instance or after the restart.
+     */
+    @PreDestroy
+    public void shutdown() {
+        subscribers.forEach(Subscriber::close);
+        senders.shutdownNow();
+    }
+
+    /**
+     * Creates the emitter of a new subscription.
+     *
+     * @param timeoutMs the time after which the stream ends
+     * @return a new emitter
+     */
+    protected SseEmitter createEmitter(long timeoutMs) {
+        return new SseEmitter(timeoutMs);
+    }
+
+    private Subscriber subscribe(ConcurrentMap<Long, Set<Subscriber>> index, Long key) {
+        Subscriber subscriber = new Subscriber(index, key, createEmitter(timeoutMs));
+        // added within the map's atomic update, so that a concurrent remove() of the last
+        // subscriber cannot drop the set after this subscriber has been added to it
+        index.compute(key, (k, set) -> {
+            Set<Subscriber> subscribed = set == null ? ConcurrentHashMap.newKeySet() : set;
+            subscribed.add(subscriber);
+            return subscribed;
+        });
+        subscribers.add(subscriber);
+        subscriber.emitter.onCompletion(subscriber::remove);
+        subscriber.emitter.onTimeout(() -> {
+            subscriber.remove();
+            subscriber.emitter.complete();
+        });
+        subscriber.emitter.onError(error -> subscriber.remove());
+        return subscriber;
+    }
+
+    private void fanOut(Set<Subscriber> targets, OrderStatusChangedEvent event) {
+        if (targets == null) {
+            return;
+        }
+        for (Subscriber subscriber : targets) {
+            if (!subscriber.offer(event)) {
+                evicted.increment();
+                log.debug("Evicting order status subscriber of {} that fell {} events behind", subscriber.key, bufferSize);
+                subscriber.close();
+            }
+        }
+    }
+
+    /**
+     * One open stream with its buffer of events not yet sent.
+     * At most one sender drains it at a time.
+     */
+    private final class Subscriber {
+
+        private final ConcurrentMap<Long, Set<Subscriber>> index;
+        private final Long key;
+        private final SseEmitter emitter;
+        private final BlockingQueue<OrderStatusChangedEvent> buffer = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private volatile boolean heartbeatDue;
+        private volatile boolean offered;
+
+        private Subscriber(ConcurrentMap<Long, Set<Subscriber>> index, Long key, SseEmitter emitter) {
+            this.index = index;
+            this.key = key;
+            this.emitter = emitter;
+        }
+
+        /**
+         * Buffers an event for sending.
+         *
+         * @return {@code false} if the buffer is full
+         */
+        boolean offer(OrderStatusChangedEvent event) {
+            if (closed.get()) {
+                return true;
+            }
+            offered = true;
+            if (!buffer.offer(event)) {
+                return false;
+            }
+            signal();
+            return true;
+        }
+
+        void requestHeartbeat() {
+            heartbeatDue = true;
+            signal();
+        }
+
+        /**
+         * Starts a sender unless one is already draining this subscriber.
+         */
+        private void signal() {
+            if (!closed.get() && draining.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                do {
+                    OrderStatusChangedEvent event;
+                    while (!closed.get() && (event = buffer.poll()) != null) {
+                        emitter.send(SseEmitter.event().name(EVENT_NAME).data(event, MediaType.APPLICATION_JSON));
+                        sent.increment();
+                        heartbeatDue = false;
+                    }
+                    if (heartbeatDue && !closed.get()) {
+                        heartbeatDue = false;
+                        emitter.send(SseEmitter.event().comment("heartbeat"));
+                    }
+                    draining.set(false);
+                } while ((!buffer.isEmpty() || heartbeatDue) && !closed.get() && draining.compareAndSet(false, true));
+            } catch (IOException | IllegalStateException e) {
+                // the client went away or the stream was completed meanwhile
+                draining.set(false);
+                close();
+            }
+        }
+
+        /**
+         * Unsubscribes and completes the stream. Completion waits for a send in progress,
+         * so it runs on a sender rather than on the caller's thread.
+         */
+        void close() {
+            if (closed.compareAndSet(false, true)) {
+                remove();
+                buffer.clear();
+                senders.execute(emitter::complete);
+            }
+        }
+
+        void remove() {
+            closed.set(true);
+            subscribers.remove(this);
+            index.computeIfPresent(key, (k, set) -> {
+                set.remove(this);
+                return set.isEmpty() ? null : set;
+            });
+        }
+    }
+}
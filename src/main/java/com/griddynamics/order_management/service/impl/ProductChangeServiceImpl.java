@@ -0,0 +1,80 @@
+package com.griddynamics.order_management.service.impl;
+
+import com.griddynamics.order_management.dto.ProductChange;
+import com.griddynamics.order_management.dto.ProductChanges;
+import com.griddynamics.order_management.model.Product;
+import com.griddynamics.order_management.repository.ProductRepository;
+import com.griddynamics.order_management.service.ProductChangeService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.query.NativeQuery;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Implementation of {@link ProductChangeService} backed by {@code products.change_version}.
+ * <p>
+ * The stamper runs on a single scheduled thread and gives every unstamped committed product the
+ * next value of {@code product_change_seq} in one statement. Rows still locked by an open
+ * transaction are picked up by a later run, so versions become visible in increasing order.
+ * </p>
+ */
+@Service
+@RequiredArgsConstructor
+public class ProductChangeServiceImpl implements ProductChangeService {
+
+    /**
+     * Repository providing the change queries.
+     */
+    private final ProductRepository productRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Retrieves at most {@code limit} changes after {@code since}, ordered by version.
+     *
+     * @param since the watermark returned by the previous call, or {@code 0} for a full sync
+     * @param limit the maximum number of products to return (at most 1000)
+     * @return the changes and the watermark to resume from
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ProductChanges getChangesSince(long since, int limit) {
+        int size = KeysetCursor.clampSize(limit);
+        List<ProductChange> changes = productRepository.findChangesSince(Math.max(since, 0), Limit.of(size + 1));
+        boolean hasMore = changes.size() > size;
+        if (hasMore) {
+            changes = changes.subList(0, size);
+        }
+        long nextVersion = changes.isEmpty() ? Math.max(since, 0) : changes.get(changes.size() - 1).version();
+        return new ProductChanges(changes, nextVersion, hasMore);
+    }
+
+    /**
+     * Stamps unversioned products every {@code products.changes.stamp-interval-ms}.
+     * The update is synchronized on {@link Product} only, so it evicts the product cache
+     * region instead of every region. Because Hibernate evicts the region and invalidates the
+     * cached catalog pages for every such update, it is only executed if a product is waiting.
+     *
+     * @return the number of products stamped
+     */
+    @Override
+    @Transactional
+    @Scheduled(fixedDelayString = "${products.changes.stamp-interval-ms:500}")
+    public int stampChanges() {
+        if (!productRepository.existsByChangeVersionIsNull()) {
+            return 0;
+        }
+        return entityManager.createNativeQuery(
+                        "UPDATE products SET change_version = NEXT VALUE FOR product_change_seq WHERE change_version IS NULL")
+                .unwrap(NativeQuery.class)
+                .addSynchronizedEntityClass(Product.class)
+                .executeUpdate();
+    }
+}
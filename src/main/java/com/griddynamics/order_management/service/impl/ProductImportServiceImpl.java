@@ -0,0 +1,313 @@
+package com.griddynamics.order_management.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.griddynamics.order_management.dto.ProductDTO;
+import com.griddynamics.order_management.dto.ProductImportResult;
+import com.griddynamics.order_management.event.ProductsChangedEvent;
+import com.griddynamics.order_management.mapper.ProductMapper;
+import com.griddynamics.order_management.model.Product;
+import com.griddynamics.order_management.repository.ProductRepository;
+import com.griddynamics.order_management.service.ProductImportService;
+import com.griddynamics.order_management.service.StockReservationService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of {@link ProductImportService} that streams the input line by line.
+ * <p>
+ * Valid rows are collected into fixed-size chunks. Each chunk is written in its own
+ * transaction: existing products are loaded by ID and by name with one query each, new
+ * products are persisted, and the persistence context is flushed as JDBC batches and cleared,
+ * so neither the input nor the managed entities accumulate in memory.
+ * </p>
+ */
+@Service
+public class ProductImportServiceImpl implements ProductImportService {
+
+    private final ProductRepository productRepository;
+    private final StockReservationService stockReservationService;
+    private final ProductMapper productMapper;
+    private final Validator validator;
+    private final ObjectReader productReader;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public ProductImportServiceImpl(ProductRepository productRepository,
+                                    StockReservationService stockReservationService,
+                                    ProductMapper productMapper,
+                                    Validator validator,
+                                    ObjectMapper objectMapper,
+                                    PlatformTransactionManager transactionManager,
+                                    ApplicationEventPublisher eventPublisher,
+                                    @Value("${products.import.batch-size:500}") int batchSize) {
+        this.productRepository = productRepository;
+        this.stockReservationService = stockReservationService;
+        this.productMapper = productMapper;
+        this.validator = validator;
+        this.productReader = objectMapper.readerFor(ProductDTO.class);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Imports products from the given stream in chunks of {@code products.import.batch-size} rows.
+     *
+     * @param input the UTF-8 encoded input
+     * @param format the format of the input
+     * @return summary of the import, including per-row errors
+     * @throws IOException if the input cannot be read
+     */
+    @Override
+    public ProductImportResult importProducts(InputStream input, Format format) throws IOException {
+        ProductImportResult result = new ProductImportResult();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        List<Row> chunk = new ArrayList<>(batchSize);
+
+        Map<String, Integer> columns = null;
+        long lineNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            if (format == Format.CSV && columns == null) {
+                columns = parseHeader(line);
+                if (!columns.containsKey("name")) {
+                    result.addError(lineNumber, "CSV header must contain a 'name' column");
+                    return result;
+                }
+                continue;
+            }
+
+            result.setProcessed(result.getProcessed() + 1);
+            ProductDTO productDTO;
+            try {
+                productDTO = format == Format.CSV ? parseCsv(line, columns) : productReader.readValue(line);
+            } catch (IOException | IllegalArgumentException e) {
+                result.addError(lineNumber, "Malformed row: " + e.getMessage());
+                continue;
+            }
+
+            Set<ConstraintViolation<ProductDTO>> violations = validator.validate(productDTO);
+            if (!violations.isEmpty()) {
+                result.addError(lineNumber, violations.stream()
+                        .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                        .sorted()
+                        .collect(Collectors.joining(", ")));
+                continue;
+            }
+
+            chunk.add(new Row(lineNumber, productDTO));
+            if (chunk.size() == batchSize) {
+                writeChunk(chunk, result);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            writeChunk(chunk, result);
+        }
+        return result;
+    }
+
+    /**
+     * Upserts one chunk of validated rows in a single transaction and announces the written
+     * products once it commits. If the chunk cannot be written, its rows are written again one
+     * per transaction, so that only the rows that actually fail are reported.
+     */
+    private void writeChunk(List<Row> chunk, ProductImportResult result) {
+        Written written;
+        try {
+            written = transactionTemplate.execute(status -> write(chunk));
+        } catch (RuntimeException e) {
+            if (chunk.size() == 1) {
+                result.addError(chunk.get(0).line(), "Write failed: " + e.getMessage());
+            } else {
+                chunk.forEach(row -> writeChunk(List.of(row), result));
+            }
+            return;
+        }
+        result.setCreated(result.getCreated() + written.created());
+        result.setUpdated(result.getUpdated() + written.updated());
+        written.rejected().forEach(result::addError);
+    }
+
+    /**
+     * Writes the rows of a chunk within the current transaction.
+     * <p>
+     * Rows with an {@code id} update that product and are rejected if it does not exist. Rows
+     * without an {@code id} update the product with the same name, or create one if there is
+     * none, so that importing the same file again does not duplicate products; they are
+     * rejected if several products share the name. Existing products are loaded with one
+     * query per key.
+     * </p>
+     */
+    private Written write(List<Row> chunk) {
+        List<Long> ids = new ArrayList<>();
+        Set<String> names = new HashSet<>();
+        for (Row row : chunk) {
+            if (row.productDTO().getId() != null) {
+                ids.add(row.productDTO().getId());
+            } else {
+                names.add(row.productDTO().getName());
+            }
+        }
+        Map<Long, Product> byId = new HashMap<>();
+        if (!ids.isEmpty()) {
+            productRepository.findAllById(ids).forEach(product -> byId.put(product.getId(), product));
+        }
+        Map<String, List<Product>> byName = names.isEmpty() ? new HashMap<>() : productRepository.findAllByNameIn(names)
+                .stream()
+                .collect(Collectors.groupingBy(Product::getName, HashMap::new, Collectors.toList()));
+
+        long created = 0;
+        long updated = 0;
+        Map<Long, String> rejected = new LinkedHashMap<>();
+        List<Long> written = new ArrayList<>(chunk.size());
+        for (Row row : chunk) {
+            ProductDTO productDTO = row.productDTO();
+            Product product;
+            if (productDTO.getId() != null) {
+                product = byId.get(productDTO.getId());
+                if (product == null) {
+                    rejected.put(row.line(), "Product not found with id: " + productDTO.getId());
+                    continue;
+                }
+            } else {
+                List<Product> sameName = byName.getOrDefault(productDTO.getName(), List.of());
+                if (sameName.size() > 1) {
+                    rejected.put(row.line(), "Several products are named '" + productDTO.getName()
+                            + "', an id is required");
+                    continue;
+                }
+                product = sameName.isEmpty() ? null : sameName.get(0);
+            }
+            if (product != null) {
+                productMapper.updateEntity(productDTO, product);
+                stockReservationService.stockReset(product.getId(), product.getStockQuantity());
+                updated++;
+            } else {
+                product = productMapper.toEntity(productDTO);
+                entityManager.persist(product);
+                byName.put(product.getName(), List.of(product));
+                created++;
+            }
+            written.add(product.getId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+        eventPublisher.publishEvent(new ProductsChangedEvent(written));
+        return new Written(created, updated, rejected);
+    }
+
+    /**
+     * Maps CSV header names to column positions.
+     */
+    private static Map<String, Integer> parseHeader(String line) {
+        List<String> names = splitCsv(line);
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            columns.put(names.get(i).trim(), i);
+        }
+        return columns;
+    }
+
+    /**
+     * Builds a {@link ProductDTO} from one CSV record using the header positions.
+     */
+    private static ProductDTO parseCsv(String line, Map<String, Integer> columns) {
+        List<String> values = splitCsv(line);
+        ProductDTO productDTO = new ProductDTO();
+        String id = value(values, columns, "id");
+        String price = value(values, columns, "price");
+        String stockQuantity = value(values, columns, "stockQuantity");
+        productDTO.setId(id == null ? null : Long.valueOf(id.trim()));
+        productDTO.setName(value(values, columns, "name"));
+        productDTO.setDescription(value(values, columns, "description"));
+        productDTO.setPrice(price == null ? null : Double.valueOf(price.trim()));
+        productDTO.setStockQuantity(stockQuantity == null ? null : Integer.valueOf(stockQuantity.trim()));
+        return productDTO;
+    }
+
+    private static String value(List<String> values, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= values.size() || values.get(index).isEmpty()) {
+            return null;
+        }
+        return values.get(index);
+    }
+
+    /**
+     * Splits one RFC 4180 record; quoted fields may contain commas and doubled quotes.
+     */
+    private static List<String> splitCsv(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("unterminated quoted field");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * A validated input row and its line number.
+     */
+    private record Row(long line, ProductDTO productDTO) {
+    }
+
+    /**
+     * Outcome of a written chunk: the numbers of created and updated products, and the
+     * messages of the rejected rows by line number.
+     */
+    private record Written(long created, long updated, Map<Long, String> rejected) {
+    }
+}
@@ -1,29 +1,43 @@
 package com.griddynamics.order_management.service.impl;
 
+import com.griddynamics.order_management.dto.CursorResponse;
 import com.griddynamics.order_management.dto.ProductDTO;
+import com.griddynamics.order_management.dto.ProductListItem;
 import com.griddynamics.order_management.dto.StockUpdateDTO;
+import com.griddynamics.order_management.event.ProductsChangedEvent;
+import com.griddynamics.order_management.exception.InsufficientStockException;
 import com.griddynamics.order_management.exception.ProductNotFoundException;
+import com.griddynamics.order_management.mapper.ProductMapper;
+import com.griddynamics.order_management.metrics.DomainMetrics;
 import com.griddynamics.order_management.model.Product;
 import com.griddynamics.order_management.repository.ProductRepository;
+import com.griddynamics.order_management.retry.RetryOnConflict;
 import com.griddynamics.order_management.service.ProductService;
+import com.griddynamics.order_management.service.StockReservationService;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Implementation of the {@link ProductService} interface, providing business logic
  * for creating, retrieving, and updating products and their stock quantities.
  * <p>
  * This service layer uses {@link ProductRepository} for persistence and
- * {@link ModelMapper} to map between DTOs and entity objects.
+ * {@link ProductMapper} to map between DTOs and entity objects.
  * </p>
  */
 @Service
+@Timed("service.calls")
 @RequiredArgsConstructor
 public class ProductServiceImpl implements ProductService {
 
@@ -32,10 +46,25 @@ public class ProductServiceImpl implements ProductService {
      */
     private final ProductRepository productRepository;
 
+    /**
+     * Inventory engine that takes and returns stock.
+     */
+    private final StockReservationService stockReservationService;
+
     /**
      * Mapper for converting between DTOs and entities.
      */
-    private final ModelMapper modelMapper;
+    private final ProductMapper productMapper;
+
+    /**
+     * Publisher of {@link ProductsChangedEvent}s.
+     */
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Counters of missing products and stock shortages.
+     */
+    private final DomainMetrics domainMetrics;
 
     /**
      * Creates a new product in the system.
@@ -46,8 +75,9 @@ public class ProductServiceImpl implements ProductService {
     @Override
     @Transactional
     public Product createProduct(ProductDTO productDTO) {
-        Product product = modelMapper.map(productDTO, Product.class);
-        return productRepository.save(product);
+        Product product = productRepository.save(productMapper.toEntity(productDTO));
+        eventPublisher.publishEvent(new ProductsChangedEvent(List.of(product.getId())));
+        return product;
     }
 
     /**
@@ -61,34 +91,54 @@ public class ProductServiceImpl implements ProductService {
     @Transactional(readOnly = true)
     public Product getProductById(Long id) throws ProductNotFoundException {
         return productRepository.findById(id)
-                .orElseThrow(() -> new ProductNotFoundException("Product not found with id: " + id));
+                .orElseThrow(() -> {
+                    domainMetrics.notFound(Product.class);
+                    return new ProductNotFoundException("Product not found with id: " + id);
+                });
     }
 
     /**
-     * Retrieves all products available in the system.
+     * Retrieves the products with the given identifiers in a single query.
      *
-     * @return list of {@link Product} entities
+     * @param ids the IDs of the products to retrieve
+     * @return map of product ID to the corresponding {@link Product} entity
      */
     @Override
     @Transactional(readOnly = true)
-    public List<Product> getAllProducts() {
-        return productRepository.findAll();
+    public Map<Long, Product> getProductsByIds(Collection<Long> ids) {
+        Map<Long, Product> products = new HashMap<>();
+        for (Product product : productRepository.findAllById(ids)) {
+            products.put(product.getId(), product);
+        }
+        return products;
+    }
+
+    /**
+     * Retrieves all products available in the system as lean list items.
+     *
+     * @return list of {@link ProductListItem} records
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<ProductListItem> getAllProducts() {
+        return productRepository.findListItems();
     }
 
     /**
      * Retrieves all products available in the system with pagination.
      *
      * @param pageable the pagination information
-     * @return a page of {@link Product} entities
+     * @return a page of {@link ProductListItem} records
      */
     @Override
     @Transactional(readOnly = true)
-    public Page<Product> getAllProducts(Pageable pageable) {
-        return productRepository.findAll(pageable);
+    public Page<ProductListItem> getAllProducts(Pageable pageable) {
+        return productRepository.findListItems(pageable);
     }
 
     /**
      * Updates the stock quantity of an existing product.
+     * Retried if the product is modified concurrently, e.g. by an order reserving stock.
      *
      * @param id the ID of the product to update
      * @param stockUpdateDTO the DTO containing the new stock quantity
@@ -96,10 +146,82 @@ public class ProductServiceImpl implements ProductService {
      * @throws ProductNotFoundException if the product does not exist
      */
     @Override
+    @RetryOnConflict
     @Transactional
     public Product updateProductStock(Long id, StockUpdateDTO stockUpdateDTO) throws ProductNotFoundException {
         Product product = getProductById(id);
         product.setStockQuantity(stockUpdateDTO.getStockQuantity());
+        stockReservationService.stockReset(id, stockUpdateDTO.getStockQuantity());
+        eventPublisher.publishEvent(new ProductsChangedEvent(List.of(id)));
         return productRepository.save(product);
     }
+
+    /**
+     * Reserves stock for several products at once.
+     * <p>
+     * The products are loaded in a single query and the stock itself is taken by the
+     * configured {@link StockReservationService}, which guarantees that a failed
+     * reservation leaves stock untouched.
+     * </p>
+     *
+     * @param quantities map of product ID to the quantity to reserve
+     * @return map of product ID to the reserved {@link Product} entity
+     * @throws ProductNotFoundException if any of the products does not exist
+     * @throws InsufficientStockException if one or more products lack sufficient stock
+     */
+    @Override
+    @Transactional
+    public Map<Long, Product> reserveStock(Map<Long, Integer> quantities) throws ProductNotFoundException, InsufficientStockException {
+        Map<Long, Product> products = getProductsByIds(quantities.keySet());
+
+        List<Long> missing = quantities.keySet().stream()
+                .filter(id -> !products.containsKey(id))
+                .toList();
+        if (!missing.isEmpty()) {
+            domainMetrics.notFound(Product.class);
+            throw new ProductNotFoundException("Product not found with id: " + missing);
+        }
+
+        Map<Long, Integer> shortages = stockReservationService.reserve(quantities);
+        if (!shortages.isEmpty()) {
+            domainMetrics.insufficientStock();
+            throw StockShortages.toException(shortages, products, quantities);
+        }
+        return products;
+    }
+
+    /**
+     * Returns previously reserved stock for several products through the configured
+     * {@link StockReservationService}.
+     *
+     * @param quantities map of product ID to the quantity to return
+     */
+    @Override
+    @Transactional
+    public void releaseStock(Map<Long, Integer> quantities) {
+        stockReservationService.release(quantities);
+    }
+
+    /**
+     * Retrieves a slice of products using keyset pagination over {@code (name, id)}.
+     *
+     * @param after the cursor returned with the previous slice, or {@code null} for the first slice
+     * @param size the maximum number of products to return
+     * @return a {@link CursorResponse} of products
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorResponse<ProductListItem> getProductsAfter(String after, int size) {
+        KeysetCursor cursor = KeysetCursor.decode(after);
+        int limit = KeysetCursor.clampSize(size);
+        List<ProductListItem> products = cursor == null
+                ? productRepository.findFirstByKeyset(Limit.of(limit + 1))
+                : productRepository.findAfter(cursor.key(), cursor.id(), Limit.of(limit + 1));
+        if (products.size() <= limit) {
+            return new CursorResponse<>(products, null);
+        }
+        List<ProductListItem> content = products.subList(0, limit);
+        ProductListItem last = content.get(limit - 1);
+        return new CursorResponse<>(content, new KeysetCursor(last.name(), last.id()).encode());
+    }
 }
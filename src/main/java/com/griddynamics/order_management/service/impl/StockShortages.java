@@ -0,0 +1,37 @@
+package com.griddynamics.order_management.service.impl;
+
+import com.griddynamics.order_management.exception.InsufficientStockException;
+import com.griddynamics.order_management.model.Product;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Builds the {@link InsufficientStockException} reported for a failed stock reservation.
+ */
+final class StockShortages {
+
+    private StockShortages() {
+    }
+
+    /**
+     * Creates an exception listing every short line of a reservation.
+     *
+     * @param shortages map of product ID to available stock for the lines that could not be reserved
+     * @param products map of product ID to product, used for the product names
+     * @param quantities map of product ID to the requested quantity
+     * @return the exception to throw
+     */
+    static InsufficientStockException toException(Map<Long, Integer> shortages,
+                                                  Map<Long, Product> products,
+                                                  Map<Long, Integer> quantities) {
+        List<String> messages = new ArrayList<>();
+        new TreeMap<>(shortages).forEach((id, available) -> messages.add(
+                "Insufficient stock for product: " + products.get(id).getName() +
+                ". Available: " + available +
+                ", Requested: " + quantities.get(id)));
+        return new InsufficientStockException(String.join("; ", messages));
+    }
+}
@@ -0,0 +1,143 @@
+package com.griddynamics.order_management.web;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Limits the number of API requests in progress when requests run on virtual threads
+ * ({@code spring.threads.virtual.enabled=true}).
+ * <p>
+ * With platform threads, Tomcat's worker pool bounds how many requests compete for database
+ * connections. Virtual threads remove that bound, and without a limit every excess request
+ * would wait in the Hikari pool until its connection timeout. This filter admits at most
+ * {@code web.concurrency.max-requests} API requests at a time, by default the size of the
+ * connection pool. A request that gets no permit within {@code web.concurrency.acquire-timeout-ms}
+ * is answered with 503 Service Unavailable and a {@code Retry-After} header. Asynchronous
+ * requests, such as the order export, keep their permit until they complete, except event
+ * streams, which hold no connection while they are open.
+ * </p>
+ * <p>
+ * Publishes {@code web.concurrency.rejected} (counter) and {@code web.concurrency.available}
+ * (gauge of free permits).
+ * </p>
+ */
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class ConnectionPoolBulkheadFilter extends OncePerRequestFilter {
+
+    private final Semaphore permits;
+    private final long acquireTimeoutMs;
+    private final Counter rejected;
+
+    public ConnectionPoolBulkheadFilter(
+            @Value("${web.concurrency.max-requests:${spring.datasource.hikari.maximum-pool-size:10}}") int maxRequests,
+            @Value("${web.concurrency.acquire-timeout-ms:1000}") long acquireTimeoutMs,
+            MeterRegistry meterRegistry) {
+        this.permits = new Semaphore(maxRequests, true);
+        this.acquireTimeoutMs = acquireTimeoutMs;
+        this.rejected = Counter.builder("web.concurrency.rejected")
+                .description("API requests rejected because no permit became available in time")
+                .register(meterRegistry);
+        Gauge.builder("web.concurrency.available", permits, Semaphore::availablePermits)
+                .description("Free permits for API requests")
+                .register(meterRegistry);
+        log.info("Virtual thread request execution: at most {} concurrent API requests", maxRequests);
+    }
+
+    /**
+     * Only API requests are limited; actuator, documentation and the H2 console are not.
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            rejected.increment();
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value(), "Too many concurrent requests, please retry");
+            return;
+        }
+
+        Permit permit = new Permit();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted() && !isEventStream(response)) {
+                request.getAsyncContext().addListener(permit);
+            } else {
+                permit.release();
+            }
+        }
+    }
+
+    private static boolean isEventStream(HttpServletResponse response) {
+        return response.getContentType() != null && response.getContentType().startsWith(MediaType.TEXT_EVENT_STREAM_VALUE);
+    }
+
+    /**
+     * A permit that is released exactly once, either when the request thread leaves the filter
+     * or when an asynchronous request completes.
+     */
+    private class Permit implements AsyncListener {
+
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        void release() {
+            if (released.compareAndSet(false, true)) {
+                permits.release();
+            }
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
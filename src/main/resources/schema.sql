@@ -0,0 +1,2 @@
+-- Source of products.change_version; runs after Hibernate has created the tables
+CREATE SEQUENCE IF NOT EXISTS product_change_seq;
@@ -0,0 +1,116 @@
+package com.griddynamics.order_management;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Verifies that {@code GET /api/products} is served from the catalog snapshot with
+ * conditional requests and gzip, and that the snapshot follows product changes.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "catalog.snapshot.rebuild-delay-ms=10"
+})
+@AutoConfigureMockMvc
+public class CatalogSnapshotTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void testIfNoneMatch_NotModifiedWithoutQueries() throws Exception {
+        String etag = mockMvc.perform(get("/api/products"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotNull(etag);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        MvcResult result = mockMvc.perform(get("/api/products").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andReturn();
+
+        assertEquals(0, result.getResponse().getContentLength());
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testProductChange_RebuildsSnapshotWithNewEtag() throws Exception {
+        String etag = mockMvc.perform(get("/api/products"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        String name = "Snapshot " + UUID.randomUUID();
+
+        mockMvc.perform(post("/api/products")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"" + name + "\",\"price\":2.5,\"stockQuantity\":7}"))
+                .andExpect(status().isCreated());
+
+        long deadline = System.currentTimeMillis() + 5_000;
+        MvcResult result;
+        do {
+            Thread.sleep(20);
+            result = mockMvc.perform(get("/api/products").header(HttpHeaders.IF_NONE_MATCH, etag)).andReturn();
+        } while (result.getResponse().getStatus() == 304 && System.currentTimeMillis() < deadline);
+
+        assertEquals(200, result.getResponse().getStatus());
+        assertNotEquals(etag, result.getResponse().getHeader(HttpHeaders.ETAG));
+        assertTrue(containsProduct(objectMapper.readTree(result.getResponse().getContentAsByteArray()), name));
+    }
+
+    @Test
+    void testAcceptEncodingGzip_ServesCompressedSnapshot() throws Exception {
+        MvcResult plain = mockMvc.perform(get("/api/products")).andReturn();
+        MvcResult gzip = mockMvc.perform(get("/api/products").header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andReturn();
+
+        assertNotEquals(plain.getResponse().getHeader(HttpHeaders.ETAG), gzip.getResponse().getHeader(HttpHeaders.ETAG));
+        assertArrayEquals(plain.getResponse().getContentAsByteArray(), gunzip(gzip.getResponse().getContentAsByteArray()));
+    }
+
+    private static boolean containsProduct(JsonNode products, String name) {
+        for (JsonNode product : products) {
+            if (name.equals(product.get("name").asText())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static byte[] gunzip(byte[] bytes) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return in.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.griddynamics.order_management;
+
+import com.griddynamics.order_management.web.ConnectionPoolBulkheadFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConnectionPoolBulkheadFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ConnectionPoolBulkheadFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new ConnectionPoolBulkheadFilter(1, 50, meterRegistry);
+    }
+
+    @Test
+    void testRequestBeyondLimit_RejectedWith503() throws Exception {
+        CountDownLatch inside = new CountDownLatch(1);
+        CountDownLatch leave = new CountDownLatch(1);
+        Thread holder = Thread.ofVirtual().start(() -> {
+            try {
+                filter.doFilter(apiRequest(), new MockHttpServletResponse(), (request, response) -> {
+                    inside.countDown();
+                    await(leave);
+                });
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertTrue(inside.await(5, TimeUnit.SECONDS));
+
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        filter.doFilter(apiRequest(), rejected, new MockFilterChain());
+        assertEquals(503, rejected.getStatus());
+        assertEquals("1", rejected.getHeader(HttpHeaders.RETRY_AFTER));
+        assertEquals(1, meterRegistry.get("web.concurrency.rejected").counter().count());
+
+        leave.countDown();
+        holder.join();
+        MockHttpServletResponse admitted = new MockHttpServletResponse();
+        filter.doFilter(apiRequest(), admitted, new MockFilterChain());
+        assertEquals(200, admitted.getStatus());
+    }
+
+    @Test
+    void testAsyncRequest_HoldsPermitUntilComplete() throws Exception {
+        MockHttpServletRequest async = apiRequest();
+        async.setAsyncSupported(true);
+        FilterChain startAsync = (request, response) -> request.startAsync();
+        filter.doFilter(async, new MockHttpServletResponse(), startAsync);
+        assertEquals(0, meterRegistry.get("web.concurrency.available").gauge().value());
+
+        ((MockAsyncContext) async.getAsyncContext()).complete();
+        assertEquals(1, meterRegistry.get("web.concurrency.available").gauge().value());
+    }
+
+    @Test
+    void testEventStream_ReleasesPermitWhenStreaming() throws Exception {
+        MockHttpServletRequest stream = apiRequest();
+        stream.setAsyncSupported(true);
+        filter.doFilter(stream, new MockHttpServletResponse(), (request, response) -> {
+            request.startAsync();
+            response.setContentType("text/event-stream");
+        });
+        assertTrue(stream.isAsyncStarted());
+        assertEquals(1, meterRegistry.get("web.concurrency.available").gauge().value());
+    }
+
+    @Test
+    void testNonApiRequest_NotLimited() throws Exception {
+        MockHttpServletRequest async = apiRequest();
+        async.setAsyncSupported(true);
+        filter.doFilter(async, new MockHttpServletResponse(), (request, response) -> request.startAsync());
+
+        MockHttpServletResponse actuator = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/actuator/health"), actuator, new MockFilterChain());
+        assertEquals(200, actuator.getStatus());
+    }
+
+    private static MockHttpServletRequest apiRequest() {
+        return new MockHttpServletRequest("GET", "/api/orders/1");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.griddynamics.order_management;
+
+import com.griddynamics.order_management.repository.ProductRepository;
+import com.griddynamics.order_management.service.impl.DatabaseStockReservationService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class DatabaseStockReservationServiceTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private Query query;
+
+    @InjectMocks
+    private DatabaseStockReservationService reservationService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(reservationService, "entityManager", entityManager);
+    }
+
+    @Test
+    void testReserve_SingleLine_OneConditionalDecrement() {
+        when(productRepository.decrementStock(1L, 4)).thenReturn(1);
+
+        assertTrue(reservationService.reserve(Map.of(1L, 4)).isEmpty());
+        verifyNoInteractions(entityManager);
+    }
+
+    @Test
+    void testReserve_AllLinesInOneUpdate() {
+        when(entityManager.createQuery(anyString())).thenReturn(query);
+        when(query.executeUpdate()).thenReturn(2);
+
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
+        quantities.put(2L, 5);
+        quantities.put(1L, 4);
+        Map<Long, Integer> shortages = reservationService.reserve(quantities);
+
+        assertTrue(shortages.isEmpty());
+        verify(query).executeUpdate();
+        verify(query).setParameter("id0", 1L);
+        verify(query).setParameter("quantity0", 4);
+        verify(query).setParameter("id1", 2L);
+        verify(query).setParameter("quantity1", 5);
+        verify(query).setParameter("lines", 2L);
+        verify(productRepository, never()).decrementStock(anyLong(), anyInt());
+    }
+
+    @Test
+    void testReserve_NothingUpdated_ReportsShortLines() {
+        when(entityManager.createQuery(anyString())).thenReturn(query);
+        when(query.executeUpdate()).thenReturn(0);
+        ProductRepository.StockLevel first = level(1L, 2);
+        ProductRepository.StockLevel second = level(2L, 1);
+        when(productRepository.findStockLevels(Set.of(1L, 2L, 3L))).thenReturn(List.of(first, second));
+
+        Map<Long, Integer> shortages = reservationService.reserve(Map.of(1L, 3, 2L, 1, 3L, 2));
+
+        assertEquals(Map.of(1L, 2, 3L, 0), shortages);
+        verify(query).executeUpdate();
+        verify(productRepository, never()).incrementStock(anyLong(), anyInt());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void testReserve_PartiallyUpdated_Conflict() {
+        when(entityManager.createQuery(anyString())).thenReturn(query);
+        when(query.executeUpdate()).thenReturn(1);
+
+        assertThrows(OptimisticLockingFailureException.class, () -> reservationService.reserve(Map.of(1L, 3, 2L, 1)));
+        verifyNoInteractions(eventPublisher);
+    }
+
+    private static ProductRepository.StockLevel level(Long id, int stockQuantity) {
+        ProductRepository.StockLevel level = mock(ProductRepository.StockLevel.class);
+        when(level.getId()).thenReturn(id);
+        when(level.getStockQuantity()).thenReturn(stockQuantity);
+        return level;
+    }
+}
@@ -0,0 +1,173 @@
+package com.griddynamics.order_management;
+
+import com.griddynamics.order_management.exception.CustomerNotFoundException;
+import com.griddynamics.order_management.exception.InsufficientStockException;
+import com.griddynamics.order_management.exception.OrderPlacementTimeoutException;
+import com.griddynamics.order_management.model.Customer;
+import com.griddynamics.order_management.model.Order;
+import com.griddynamics.order_management.model.Product;
+import com.griddynamics.order_management.repository.CustomerRepository;
+import com.griddynamics.order_management.repository.OrderRepository;
+import com.griddynamics.order_management.repository.ProductRepository;
+import com.griddynamics.order_management.service.OrderGroupCommitService;
+import com.griddynamics.order_management.service.OrderService;
+import com.griddynamics.order_management.service.impl.OrderGroupCommitServiceImpl;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Verifies that concurrent synchronous placements are committed as one group while every
+ * caller still gets its own order or exception.
+ */
+@SpringBootTest(properties = {
+        "orders.group-commit.threads=1",
+        "orders.group-commit.max-wait-ms=500",
+        "orders.group-commit.max-batch-size=5"
+})
+public class GroupCommitTest {
+
+    @Autowired
+    private OrderGroupCommitService orderGroupCommitService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Product product;
+    private Customer customer;
+
+    @BeforeEach
+    void setUp() {
+        product = productRepository.save(TestData.product("Grouped", 3.0, 10));
+        customer = customerRepository.save(TestData.customer("Grouped"));
+    }
+
+    @Test
+    void testConcurrentCallers_OneGroupWithIndividualOutcomes() throws Exception {
+        DistributionSummary groups = meterRegistry.get("orders.group-commit.batch.size").summary();
+        long groupsBefore = groups.count();
+        double ordersBefore = groups.totalAmount();
+        long storedBefore = orderRepository.count();
+
+        List<Future<Order>> futures = new ArrayList<>();
+        try (ExecutorService callers = Executors.newFixedThreadPool(5)) {
+            for (int i = 0; i < 5; i++) {
+                futures.add(callers.submit(() -> orderGroupCommitService.placeOrder(
+                        TestData.order(customer.getId(), product.getId(), 3))));
+            }
+        }
+
+        List<Long> placed = new ArrayList<>();
+        int rejected = 0;
+        for (Future<Order> future : futures) {
+            try {
+                placed.add(future.get().getId());
+            } catch (ExecutionException e) {
+                assertInstanceOf(InsufficientStockException.class, e.getCause());
+                rejected++;
+            }
+        }
+        assertEquals(3, placed.size());
+        assertEquals(2, rejected);
+        assertEquals(3, placed.stream().distinct().count());
+        assertEquals(1, groups.count() - groupsBefore);
+        assertEquals(5, groups.totalAmount() - ordersBefore);
+        assertEquals(storedBefore + 3, orderRepository.count());
+        assertEquals(1, productRepository.findById(product.getId()).orElseThrow().getStockQuantity());
+    }
+
+    @Test
+    void testUnknownCustomer_ThrownToCaller() {
+        assertThrows(CustomerNotFoundException.class,
+                () -> orderGroupCommitService.placeOrder(TestData.order(Long.MAX_VALUE, product.getId(), 1)));
+        assertEquals(10, productRepository.findById(product.getId()).orElseThrow().getStockQuantity());
+    }
+
+    @Test
+    void testCallerInTransaction_PlacedDirectly() {
+        long groupsBefore = meterRegistry.get("orders.group-commit.batch.size").summary().count();
+
+        Order order = transactionTemplate.execute(status ->
+                orderGroupCommitService.placeOrder(TestData.order(customer.getId(), product.getId(), 2)));
+
+        assertNotNull(order.getId());
+        assertEquals(groupsBefore, meterRegistry.get("orders.group-commit.batch.size").summary().count());
+        assertEquals(8, productRepository.findById(product.getId()).orElseThrow().getStockQuantity());
+    }
+
+    @Test
+    void testFullQueueAndTimeouts() throws Exception {
+        OrderService orders = mock(OrderService.class);
+        Order direct = new Order();
+        CountDownLatch combining = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(orders.placeOrder(any())).thenReturn(direct);
+        when(orders.placeOrderGroup(any())).thenAnswer(invocation -> {
+            combining.countDown();
+            release.await(10, TimeUnit.SECONDS);
+            return List.of(new OrderService.Placement(new Order(), null));
+        });
+        OrderGroupCommitServiceImpl groupCommit = new OrderGroupCommitServiceImpl(
+                orders, new SimpleMeterRegistry(), true, 0, 1, 1, 1, 1_000);
+        groupCommit.start();
+        try (ExecutorService callers = Executors.newFixedThreadPool(2)) {
+            // the only combiner is busy with the first order, the second one fills the queue
+            Future<Order> combined = callers.submit(() -> groupCommit.placeOrder(TestData.order(1L, 1L, 1)));
+            assertTrue(combining.await(5, TimeUnit.SECONDS));
+            AtomicReference<Thread> waiter = new AtomicReference<>();
+            Future<Order> queued = callers.submit(() -> {
+                waiter.set(Thread.currentThread());
+                return groupCommit.placeOrder(TestData.order(1L, 1L, 1));
+            });
+            long deadline = System.currentTimeMillis() + 5_000;
+            while (waiter.get() == null || waiter.get().getState() != Thread.State.TIMED_WAITING) {
+                assertTrue(System.currentTimeMillis() < deadline, "Second caller did not start waiting");
+                Thread.sleep(5);
+            }
+
+            assertSame(direct, groupCommit.placeOrder(TestData.order(1L, 1L, 1)));
+
+            ExecutionException notPlaced = assertThrows(ExecutionException.class, queued::get);
+            assertInstanceOf(OrderPlacementTimeoutException.class, notPlaced.getCause());
+            assertTrue(notPlaced.getCause().getMessage().contains("was not placed"));
+            ExecutionException unknown = assertThrows(ExecutionException.class, combined::get);
+            assertInstanceOf(OrderPlacementTimeoutException.class, unknown.getCause());
+            assertTrue(unknown.getCause().getMessage().contains("may still be placed"));
+        } finally {
+            release.countDown();
+            groupCommit.shutdown();
+        }
+    }
+}
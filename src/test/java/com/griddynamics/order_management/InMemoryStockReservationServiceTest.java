@@ -0,0 +1,171 @@
+package com.griddynamics.order_management;
+
+import com.griddynamics.order_management.model.StockLedgerEntry;
+import com.griddynamics.order_management.repository.ProductRepository;
+import com.griddynamics.order_management.repository.StockLedgerRepository;
+import com.griddynamics.order_management.service.impl.InMemoryStockReservationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class InMemoryStockReservationServiceTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private StockLedgerRepository stockLedgerRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private InMemoryStockReservationService reservationService;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(productRepository.findAllStockLevels()).thenReturn(List.of(level(1L, 10), level(2L, 1)));
+        reservationService = new InMemoryStockReservationService(
+                productRepository, stockLedgerRepository, transactionManager, eventPublisher, 100);
+        reservationService.rebuild();
+    }
+
+    @Test
+    void testReserve_IsAllOrNothing() {
+        Map<Long, Integer> shortages = reservationService.reserve(Map.of(1L, 4, 2L, 2));
+
+        assertEquals(Map.of(2L, 1), shortages);
+        assertTrue(reservationService.reserve(Map.of(1L, 10)).isEmpty());
+        verify(productRepository, never()).decrementStock(anyLong(), anyInt());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testReserve_RecordsLedgerEntries() {
+        reservationService.reserve(Map.of(1L, 4));
+
+        ArgumentCaptor<List<StockLedgerEntry>> captor = ArgumentCaptor.forClass(List.class);
+        verify(stockLedgerRepository).saveAll(captor.capture());
+        assertEquals(1, captor.getValue().size());
+        assertEquals(-4, captor.getValue().get(0).getDelta());
+    }
+
+    @Test
+    void testFlush_AppliesNetDeltas() {
+        when(stockLedgerRepository.findOldest(any())).thenReturn(List.of(
+                new StockLedgerEntry(1L, 1L, -3),
+                new StockLedgerEntry(2L, 1L, 1),
+                new StockLedgerEntry(3L, 2L, -1)));
+
+        assertEquals(3, reservationService.flush());
+        verify(productRepository).adjustStock(1L, -2);
+        verify(productRepository).adjustStock(2L, -1);
+        verify(stockLedgerRepository).deleteByIdIn(List.of(1L, 2L, 3L));
+    }
+
+    @Test
+    void testReserve_ConcurrentCallersNeverOversell() throws InterruptedException {
+        AtomicInteger granted = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 100; i++) {
+            executor.execute(() -> {
+                if (reservationService.reserve(Map.of(1L, 1)).isEmpty()) {
+                    granted.incrementAndGet();
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(10, granted.get());
+    }
+
+    @Test
+    void testStockReset_RolledBack_KeepsCounter() {
+        inTransaction(() -> reservationService.stockReset(1L, 3), TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertTrue(reservationService.reserve(Map.of(1L, 10)).isEmpty());
+    }
+
+    @Test
+    void testStockReset_InFlightReservationRolledBackAfterReset() {
+        List<TransactionSynchronization> reservation = begin(() -> reservationService.reserve(Map.of(1L, 4)));
+        inTransaction(() -> reservationService.stockReset(1L, 5), TransactionSynchronization.STATUS_COMMITTED);
+        complete(reservation, TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertEquals(Map.of(1L, 5), reservationService.reserve(Map.of(1L, 6)));
+    }
+
+    @Test
+    void testStockReset_InFlightReservationCommittedAfterReset() {
+        List<TransactionSynchronization> reservation = begin(() -> reservationService.reserve(Map.of(1L, 4)));
+        inTransaction(() -> reservationService.stockReset(1L, 5), TransactionSynchronization.STATUS_COMMITTED);
+        complete(reservation, TransactionSynchronization.STATUS_COMMITTED);
+
+        // the reservation's ledger entry was not deleted by the reset and is folded into the new 5
+        assertEquals(Map.of(1L, 1), reservationService.reserve(Map.of(1L, 2)));
+    }
+
+    /**
+     * Runs {@code work} as a transaction that ends with {@code status}.
+     */
+    private static void inTransaction(Runnable work, int status) {
+        complete(begin(work), status);
+    }
+
+    /**
+     * Runs {@code work} in a transaction that is left open, and returns its synchronizations.
+     */
+    private static List<TransactionSynchronization> begin(Runnable work) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            work.run();
+            return TransactionSynchronizationManager.getSynchronizations();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static void complete(List<TransactionSynchronization> synchronizations, int status) {
+        if (status == TransactionSynchronization.STATUS_COMMITTED) {
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+        }
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+
+    private static ProductRepository.StockLevel level(Long id, int stock) {
+        return new ProductRepository.StockLevel() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public int getStockQuantity() {
+                return stock;
+            }
+        };
+    }
+}
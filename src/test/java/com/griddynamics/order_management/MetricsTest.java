@@ -0,0 +1,145 @@
+package com.griddynamics.order_management;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.griddynamics.order_management.dto.OrderStatusUpdateDTO;
+import com.griddynamics.order_management.model.Customer;
+import com.griddynamics.order_management.model.Order;
+import com.griddynamics.order_management.model.Product;
+import com.griddynamics.order_management.repository.CustomerRepository;
+import com.griddynamics.order_management.repository.ProductRepository;
+import com.griddynamics.order_management.service.OrderService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Verifies the service timers, domain counters and infrastructure gauges, and that they are
+ * scrapeable in Prometheus text format.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+public class MetricsTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Product product;
+    private Customer customer;
+
+    @BeforeEach
+    void setUp() {
+        product = productRepository.save(TestData.product("Metered", 2.0, 1));
+        customer = customerRepository.save(TestData.customer("Metered"));
+    }
+
+    @Test
+    void testPrometheusEndpoint_ExposesServiceRepositoryAndPoolMetrics() throws Exception {
+        mockMvc.perform(post("/api/orders").contentType(MediaType.APPLICATION_JSON).content(orderJson(5)))
+                .andExpect(status().isBadRequest());
+
+        String scrape = mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertTrue(scrape.contains("service_calls_seconds_bucket{"), "service timer histogram");
+        assertTrue(scrape.matches("(?s).*service_calls_seconds_count\\{[^}]*exception=\"InsufficientStockException\""
+                + "[^}]*method=\"placeOrder\".*"), "placeOrder timer tagged with the exception");
+        assertTrue(scrape.contains("spring_data_repository_invocations_seconds_bucket{"), "repository timer histogram");
+        assertTrue(scrape.contains("orders_insufficient_stock_total"), "insufficient stock counter");
+        assertTrue(scrape.contains("lookups_not_found_total{entity=\"order\"}"), "not-found counter");
+        assertTrue(scrape.contains("hikaricp_connections_active{"), "Hikari pool gauge");
+        assertTrue(scrape.contains("hibernate_statements_total{"), "Hibernate statistics");
+    }
+
+    @Test
+    void testNotFound_CountedOnceAcrossServices() throws Exception {
+        double before = count("lookups.not.found", "entity", "customer");
+
+        mockMvc.perform(get("/api/orders/customers/{id}", Long.MAX_VALUE))
+                .andExpect(status().isNotFound());
+
+        assertEquals(before + 1, count("lookups.not.found", "entity", "customer"));
+    }
+
+    @Test
+    void testStatusUpdate_CountsTransition() throws Exception {
+        String created = mockMvc.perform(post("/api/orders").contentType(MediaType.APPLICATION_JSON).content(orderJson(1)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        long orderId = objectMapper.readTree(created).get("id").asLong();
+        double before = transitions(Order.OrderStatus.PLACED, Order.OrderStatus.SHIPPED);
+
+        mockMvc.perform(patch("/api/orders/{id}/status", orderId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\":\"SHIPPED\"}"))
+                .andExpect(status().isOk());
+
+        assertEquals(before + 1, transitions(Order.OrderStatus.PLACED, Order.OrderStatus.SHIPPED));
+    }
+
+    @Test
+    void testRolledBackStatusUpdate_NotCounted() {
+        Order order = orderService.placeOrder(TestData.order(customer.getId(), product.getId(), 1));
+        double before = transitions(Order.OrderStatus.PLACED, Order.OrderStatus.SHIPPED);
+        OrderStatusUpdateDTO shipped = new OrderStatusUpdateDTO();
+        shipped.setStatus(Order.OrderStatus.SHIPPED);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            orderService.updateOrderStatus(order.getId(), shipped);
+            status.setRollbackOnly();
+        });
+
+        assertEquals(before, transitions(Order.OrderStatus.PLACED, Order.OrderStatus.SHIPPED));
+        orderService.updateOrderStatus(order.getId(), shipped);
+        assertEquals(before + 1, transitions(Order.OrderStatus.PLACED, Order.OrderStatus.SHIPPED));
+    }
+
+    private String orderJson(int quantity) {
+        return "{\"customerId\":" + customer.getId()
+                + ",\"orderItems\":[{\"productId\":" + product.getId() + ",\"quantity\":" + quantity + "}]}";
+    }
+
+    private double transitions(Order.OrderStatus from, Order.OrderStatus to) {
+        var counter = meterRegistry.find("orders.status.transitions")
+                .tag("from", from.name())
+                .tag("to", to.name())
+                .counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    private double count(String name, String tag, String value) {
+        return meterRegistry.get(name).tag(tag, value).counter().count();
+    }
+}
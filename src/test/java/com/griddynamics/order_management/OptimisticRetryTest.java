@@ -0,0 +1,150 @@
+package com.griddynamics.order_management;
+
+import com.griddynamics.order_management.dto.StockUpdateDTO;
+import com.griddynamics.order_management.model.Customer;
+import com.griddynamics.order_management.model.Order;
+import com.griddynamics.order_management.model.Product;
+import com.griddynamics.order_management.repository.CustomerRepository;
+import com.griddynamics.order_management.repository.OrderRepository;
+import com.griddynamics.order_management.repository.ProductRepository;
+import com.griddynamics.order_management.service.OrderService;
+import com.griddynamics.order_management.service.ProductService;
+import com.griddynamics.order_management.service.StockReservationService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+
+/**
+ * Verifies that concurrent modifications are detected through the version columns and
+ * resolved by bounded retries.
+ */
+@SpringBootTest(properties = "concurrency.retry.initial-delay-ms=1")
+public class OptimisticRetryTest {
+
+    private static final String OPERATION = "ProductServiceImpl.updateProductStock";
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @MockitoSpyBean
+    private StockReservationService stockReservationService;
+
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        product = productRepository.save(TestData.product("Contended", 1.0, 10));
+    }
+
+    @Test
+    void testUpdateProductStock_RetriesAfterConcurrentStockChange() {
+        double conflicts = count("optimistic.lock.conflicts");
+        AtomicInteger calls = new AtomicInteger();
+        doAnswer(invocation -> {
+            if (calls.getAndIncrement() == 0) {
+                concurrentIncrement();
+            }
+            return invocation.callRealMethod();
+        }).when(stockReservationService).stockReset(anyLong(), anyInt());
+
+        productService.updateProductStock(product.getId(), stock(50));
+
+        assertEquals(2, calls.get());
+        assertEquals(50, productRepository.findById(product.getId()).orElseThrow().getStockQuantity());
+        assertEquals(conflicts + 1, count("optimistic.lock.conflicts"));
+    }
+
+    @Test
+    void testUpdateProductStock_GivesUpAfterMaxAttempts() {
+        double exhausted = count("optimistic.lock.exhausted");
+        doAnswer(invocation -> {
+            concurrentIncrement();
+            return invocation.callRealMethod();
+        }).when(stockReservationService).stockReset(anyLong(), anyInt());
+
+        assertThrows(ObjectOptimisticLockingFailureException.class,
+                () -> productService.updateProductStock(product.getId(), stock(50)));
+
+        assertEquals(14, productRepository.findById(product.getId()).orElseThrow().getStockQuantity());
+        assertEquals(exhausted + 1, count("optimistic.lock.exhausted"));
+    }
+
+    @Test
+    void testCancelOrder_ConcurrentCancelsReleaseStockOnce() throws Exception {
+        Customer customer = customerRepository.save(TestData.customer("Retry"));
+        Order order = orderService.placeOrder(TestData.order(customer.getId(), product.getId(), 4));
+        int threads = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Order>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return orderService.cancelOrder(order.getId());
+                }));
+            }
+            start.countDown();
+            for (Future<Order> future : futures) {
+                assertEquals(Order.OrderStatus.CANCELLED, future.get().getStatus());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(10, productRepository.findById(product.getId()).orElseThrow().getStockQuantity());
+        assertEquals(Order.OrderStatus.CANCELLED, orderRepository.findById(order.getId()).orElseThrow().getStatus());
+    }
+
+    /**
+     * Changes the product's stock from another thread, and therefore another transaction.
+     */
+    private void concurrentIncrement() {
+        CompletableFuture.runAsync(() -> productRepository.incrementStock(product.getId(), 1)).join();
+    }
+
+    private double count(String name) {
+        Counter counter = meterRegistry.find(name).tag("operation", OPERATION).counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    private static StockUpdateDTO stock(int quantity) {
+        StockUpdateDTO stockUpdateDTO = new StockUpdateDTO();
+        stockUpdateDTO.setStockQuantity(quantity);
+        return stockUpdateDTO;
+    }
+}
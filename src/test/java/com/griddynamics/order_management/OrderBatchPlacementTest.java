@@ -0,0 +1,90 @@
+package com.griddynamics.order_management;
+
+import com.griddynamics.order_management.dto.OrderPlacementResult;
+import com.griddynamics.order_management.exception.InsufficientStockException;
+import com.griddynamics.order_management.model.Customer;
+import com.griddynamics.order_management.model.Product;
+import com.griddynamics.order_management.repository.CustomerRepository;
+import com.griddynamics.order_management.repository.OrderRepository;
+import com.griddynamics.order_management.repository.ProductRepository;
+import com.griddynamics.order_management.service.OrderService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+public class OrderBatchPlacementTest {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    private Customer customer;
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        customer = customerRepository.save(TestData.customer("Batch"));
+        product = productRepository.save(TestData.product("Batch product", 5.0, 3));
+    }
+
+    @Test
+    void testPlaceOrders_RejectsOnlyFailingOrders() {
+        long ordersBefore = orderRepository.count();
+
+        List<OrderPlacementResult> results = orderService.placeOrders(List.of(
+                TestData.order(customer.getId(), product.getId(), 2),
+                TestData.order(customer.getId(), product.getId(), 2),
+                TestData.order(-1L, product.getId(), 1),
+                TestData.order(customer.getId(), product.getId(), 1)), false);
+
+        assertEquals(OrderPlacementResult.Status.CREATED, results.get(0).getStatus());
+        assertNotNull(results.get(0).getOrderId());
+        assertEquals(OrderPlacementResult.Status.REJECTED, results.get(1).getStatus());
+        assertTrue(results.get(1).getError().contains("Insufficient stock"));
+        assertEquals(OrderPlacementResult.Status.REJECTED, results.get(2).getStatus());
+        assertEquals(OrderPlacementResult.Status.CREATED, results.get(3).getStatus());
+        assertEquals(ordersBefore + 2, orderRepository.count());
+        assertEquals(0, productRepository.findById(product.getId()).orElseThrow().getStockQuantity());
+    }
+
+    @Test
+    void testPlaceOrders_ShortLineTakesNoStockOfOtherLines() {
+        Product other = productRepository.save(TestData.product("Batch other", 1.0, 1));
+
+        List<OrderPlacementResult> results = orderService.placeOrders(List.of(
+                TestData.order(customer.getId(), Map.of(product.getId(), 2, other.getId(), 2)),
+                TestData.order(customer.getId(), product.getId(), 3)), false);
+
+        assertEquals(OrderPlacementResult.Status.REJECTED, results.get(0).getStatus());
+        assertEquals(OrderPlacementResult.Status.CREATED, results.get(1).getStatus());
+        assertEquals(0, productRepository.findById(product.getId()).orElseThrow().getStockQuantity());
+        assertEquals(1, productRepository.findById(other.getId()).orElseThrow().getStockQuantity());
+    }
+
+    @Test
+    void testPlaceOrders_AtomicBatchRollsBackEverything() {
+        long ordersBefore = orderRepository.count();
+
+        assertThrows(InsufficientStockException.class, () -> orderService.placeOrders(List.of(
+                TestData.order(customer.getId(), product.getId(), 2),
+                TestData.order(customer.getId(), product.getId(), 2)), true));
+
+        assertEquals(ordersBefore, orderRepository.count());
+        assertEquals(3, productRepository.findById(product.getId()).orElseThrow().getStockQuantity());
+    }
+}
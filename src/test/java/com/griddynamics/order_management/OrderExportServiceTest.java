@@ -0,0 +1,104 @@
+package com.griddynamics.order_management;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.griddynamics.order_management.model.Customer;
+import com.griddynamics.order_management.model.Order;
+import com.griddynamics.order_management.model.Product;
+import com.griddynamics.order_management.repository.CustomerRepository;
+import com.griddynamics.order_management.repository.ProductRepository;
+import com.griddynamics.order_management.service.OrderExportService;
+import com.griddynamics.order_management.service.OrderService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+@SpringBootTest(properties = "orders.export.timeout-ms=123456")
+@AutoConfigureMockMvc
+public class OrderExportServiceTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private OrderExportService orderExportService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void testExportOrders_WritesOneLinePerOrderWithItems() throws Exception {
+        Customer customer = customerRepository.save(TestData.customer("Export"));
+        Product first = productRepository.save(TestData.product("Export A", 2.0, 10));
+        Product second = productRepository.save(TestData.product("Export B", 3.0, 10));
+
+        LocalDateTime from = LocalDateTime.now().minusMinutes(1);
+        Order twoLines = orderService.placeOrder(
+                TestData.order(customer.getId(), Map.of(first.getId(), 1, second.getId(), 2)));
+        Order oneLine = orderService.placeOrder(TestData.order(customer.getId(), first.getId(), 3));
+        LocalDateTime to = LocalDateTime.now().plusMinutes(1);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long exported = orderExportService.exportOrders(from, to, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(exported, lines.length);
+        Map<Long, JsonNode> byId = new HashMap<>();
+        long previousId = 0;
+        for (String line : lines) {
+            JsonNode node = objectMapper.readTree(line);
+            assertTrue(node.get("id").asLong() > previousId);
+            previousId = node.get("id").asLong();
+            byId.put(previousId, node);
+        }
+
+        JsonNode exportedTwoLines = byId.get(twoLines.getId());
+        assertEquals(customer.getId(), exportedTwoLines.get("customerId").asLong());
+        assertEquals("PLACED", exportedTwoLines.get("status").asText());
+        assertEquals(2, exportedTwoLines.get("items").size());
+        assertEquals(1, byId.get(oneLine.getId()).get("items").size());
+        assertEquals(3, byId.get(oneLine.getId()).get("items").get(0).get("quantity").asInt());
+    }
+
+    @Test
+    void testExportOrders_EmptyPeriodWritesNothing() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        LocalDateTime from = LocalDateTime.of(1990, 1, 1, 0, 0);
+
+        assertEquals(0, orderExportService.exportOrders(from, from.plusDays(1), out));
+        assertEquals(0, out.size());
+    }
+
+    @Test
+    void testExportEndpoint_OwnAsyncTimeout() throws Exception {
+        MvcResult started = mockMvc.perform(get("/api/orders/export")
+                        .param("from", LocalDateTime.now().toString())
+                        .param("to", LocalDateTime.now().plusDays(1).toString()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        assertEquals(123456, started.getRequest().getAsyncContext().getTimeout());
+    }
+}
@@ -0,0 +1,151 @@
+package com.griddynamics.order_management;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.griddynamics.order_management.controller.OrderController;
+import com.griddynamics.order_management.exception.GlobalExceptionHandler;
+import com.griddynamics.order_management.model.Customer;
+import com.griddynamics.order_management.model.Product;
+import com.griddynamics.order_management.repository.CustomerRepository;
+import com.griddynamics.order_management.repository.ProductRepository;
+import com.griddynamics.order_management.service.OrderExportService;
+import com.griddynamics.order_management.service.OrderGroupCommitService;
+import com.griddynamics.order_management.service.OrderService;
+import com.griddynamics.order_management.service.OrderStatusStreamService;
+import com.griddynamics.order_management.service.impl.OrderIntakeServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Verifies asynchronous order intake: 202 with a tracking ID, background placement,
+ * the status endpoint and 429 when the queue is full.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+public class OrderIntakeTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    private Product product;
+    private Customer customer;
+
+    @BeforeEach
+    void setUp() {
+        product = productRepository.save(TestData.product("Queued", 4.0, 5));
+        customer = customerRepository.save(TestData.customer("Queued"));
+    }
+
+    @Test
+    void testRespondAsync_AcceptedThenPlaced() throws Exception {
+        String location = mockMvc.perform(post("/api/orders")
+                        .header("Prefer", "respond-async, wait=5")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(orderJson(2)))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Preference-Applied", "respond-async"))
+                .andExpect(jsonPath("$.trackingId").exists())
+                .andReturn().getResponse().getHeader(HttpHeaders.LOCATION);
+        assertNotNull(location);
+
+        JsonNode status = awaitCompletion(location);
+        assertEquals("PLACED", status.get("state").asText());
+        mockMvc.perform(get("/api/orders/{id}", status.get("orderId").asLong()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].quantity").value(2));
+        assertEquals(3, productRepository.findById(product.getId()).orElseThrow().getStockQuantity());
+    }
+
+    @Test
+    void testRespondAsync_InsufficientStockRejected() throws Exception {
+        String location = mockMvc.perform(post("/api/orders")
+                        .header("Prefer", "respond-async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(orderJson(6)))
+                .andExpect(status().isAccepted())
+                .andReturn().getResponse().getHeader(HttpHeaders.LOCATION);
+
+        JsonNode status = awaitCompletion(location);
+        assertEquals("REJECTED", status.get("state").asText());
+        assertTrue(status.get("error").asText().contains("Insufficient stock"), status.toString());
+        assertEquals(5, productRepository.findById(product.getId()).orElseThrow().getStockQuantity());
+    }
+
+    @Test
+    void testUnknownTrackingId_NotFound() throws Exception {
+        mockMvc.perform(get("/api/orders/intake/{trackingId}", UUID.randomUUID()))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void testQueueFull_TooManyRequests() throws Exception {
+        OrderService orderService = mock(OrderService.class);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        OrderIntakeServiceImpl intake = new OrderIntakeServiceImpl(orderService, meterRegistry, 1, 0, 50, 60_000);
+        intake.start();
+        MockMvc standalone = MockMvcBuilders
+                .standaloneSetup(new OrderController(orderService, mock(OrderExportService.class), intake,
+                        mock(OrderGroupCommitService.class), mock(OrderStatusStreamService.class)))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+
+        standalone.perform(post("/api/orders").header("Prefer", "respond-async")
+                        .contentType(MediaType.APPLICATION_JSON).content(orderJson(1)))
+                .andExpect(status().isAccepted());
+        standalone.perform(post("/api/orders").header("Prefer", "respond-async")
+                        .contentType(MediaType.APPLICATION_JSON).content(orderJson(1)))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"));
+
+        assertEquals(1, meterRegistry.get("orders.intake.queue.depth").gauge().value());
+        assertEquals(1, meterRegistry.get("orders.intake.rejected").counter().count());
+        verifyNoInteractions(orderService);
+    }
+
+    private JsonNode awaitCompletion(String location) throws Exception {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (true) {
+            JsonNode status = objectMapper.readTree(mockMvc.perform(get(location))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString());
+            if (!"QUEUED".equals(status.get("state").asText()) || System.currentTimeMillis() > deadline) {
+                assertNotNull(status.get("completedAt"));
+                return status;
+            }
+            Thread.sleep(20);
+        }
+    }
+
+    private String orderJson(int quantity) {
+        return "{\"customerId\":" + customer.getId()
+                + ",\"orderItems\":[{\"productId\":" + product.getId() + ",\"quantity\":" + quantity + "}]}";
+    }
+}
@@ -0,0 +1,181 @@
+package com.griddynamics.order_management;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.griddynamics.order_management.dto.OrderEvent;
+import com.griddynamics.order_management.dto.OrderStatusUpdateDTO;
+import com.griddynamics.order_management.event.OrderEventsRelayedEvent;
+import com.griddynamics.order_management.exception.InsufficientStockException;
+import com.griddynamics.order_management.model.Customer;
+import com.griddynamics.order_management.model.Order;
+import com.griddynamics.order_management.model.Product;
+import com.griddynamics.order_management.repository.CustomerRepository;
+import com.griddynamics.order_management.repository.OrderOutboxRepository;
+import com.griddynamics.order_management.repository.ProductRepository;
+import com.griddynamics.order_management.service.OrderOutboxService;
+import com.griddynamics.order_management.service.OrderService;
+import com.griddynamics.order_management.service.impl.LogOrderEventSink;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.event.EventListener;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifies that order changes are recorded in the outbox with the change itself and
+ * relayed to the sink in order and at least once.
+ */
+@SpringBootTest(properties = {
+        // own database, so that relays of other test contexts do not take these events
+        "spring.datasource.url=jdbc:h2:mem:outbox-test;DB_CLOSE_ON_EXIT=FALSE",
+        "orders.outbox.sink=listener",
+        "orders.outbox.relay-interval-ms=600000",
+        "orders.outbox.batch-size=2",
+        "orders.outbox.max-batches-per-run=2"
+})
+public class OrderOutboxTest {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderOutboxService orderOutboxService;
+
+    @Autowired
+    private OrderOutboxRepository orderOutboxRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private RecordingListener listener;
+
+    private Product product;
+    private Customer customer;
+
+    @BeforeEach
+    void setUp() {
+        orderOutboxService.relay();
+        listener.events.clear();
+        listener.failing = false;
+        product = productRepository.save(TestData.product("Outboxed", 2.5, 10));
+        customer = customerRepository.save(TestData.customer("Outboxed"));
+    }
+
+    @Test
+    void testOrderLifecycle_RelayedInOrder() throws Exception {
+        Order order = orderService.placeOrder(TestData.order(customer.getId(), product.getId(), 3));
+        OrderStatusUpdateDTO shipped = new OrderStatusUpdateDTO();
+        shipped.setStatus(Order.OrderStatus.SHIPPED);
+        orderService.updateOrderStatus(order.getId(), shipped);
+        orderService.cancelOrder(order.getId());
+        assertEquals(3, orderOutboxRepository.count());
+
+        assertEquals(3, orderOutboxService.relay());
+
+        List<OrderEvent> events = listener.events;
+        assertEquals(List.of(OrderEvent.Type.ORDER_PLACED, OrderEvent.Type.ORDER_STATUS_CHANGED,
+                OrderEvent.Type.ORDER_CANCELLED), events.stream().map(OrderEvent::type).toList());
+        assertTrue(events.stream().allMatch(event -> event.orderId().equals(order.getId())));
+        assertTrue(events.get(0).eventId() < events.get(1).eventId() && events.get(1).eventId() < events.get(2).eventId());
+
+        JsonNode placed = objectMapper.readTree(events.get(0).payload());
+        assertEquals(customer.getId(), placed.get("customerId").asLong());
+        assertEquals(product.getId(), placed.get("items").get(0).get("productId").asLong());
+        assertEquals(3, placed.get("items").get(0).get("quantity").asInt());
+        JsonNode cancelled = objectMapper.readTree(events.get(2).payload());
+        assertEquals("SHIPPED", cancelled.get("previousStatus").asText());
+        assertEquals("CANCELLED", cancelled.get("status").asText());
+
+        assertEquals(0, orderOutboxRepository.count());
+        assertEquals(0, orderOutboxService.relay());
+    }
+
+    @Test
+    void testBacklog_RelayedOverSeveralRuns() {
+        for (int i = 0; i < 5; i++) {
+            orderService.placeOrder(TestData.order(customer.getId(), product.getId(), 1));
+        }
+
+        assertEquals(4, orderOutboxService.relay());
+        assertEquals(1, orderOutboxRepository.count());
+        assertEquals(1, orderOutboxService.relay());
+        assertEquals(5, listener.events.size());
+    }
+
+    @Test
+    void testRejectedPlacement_NoEvent() {
+        assertThrows(InsufficientStockException.class, () -> orderService.placeOrder(TestData.order(customer.getId(), product.getId(), 11)));
+        assertEquals(0, orderOutboxRepository.count());
+    }
+
+    @Test
+    void testSinkFailure_RedeliveredOnNextRun() {
+        Order first = orderService.placeOrder(TestData.order(customer.getId(), product.getId(), 1));
+        Order second = orderService.placeOrder(TestData.order(customer.getId(), product.getId(), 1));
+        double failuresBefore = meterRegistry.get("orders.outbox.delivery.failures").counter().count();
+
+        listener.failing = true;
+        assertEquals(0, orderOutboxService.relay());
+        assertEquals(2, orderOutboxRepository.count());
+        assertEquals(failuresBefore + 1, meterRegistry.get("orders.outbox.delivery.failures").counter().count());
+
+        listener.failing = false;
+        assertEquals(2, orderOutboxService.relay());
+        assertEquals(List.of(first.getId(), second.getId()), listener.events.stream().map(OrderEvent::orderId).toList());
+        assertEquals(0, orderOutboxRepository.count());
+    }
+
+    @Test
+    void testLogSinkDisabled_DeliveryFails() {
+        LogOrderEventSink sink = new LogOrderEventSink(objectMapper);
+        Logger logger = (Logger) LoggerFactory.getLogger("order-events");
+        Level level = logger.getLevel();
+        logger.setLevel(Level.WARN);
+        try {
+            List<OrderEvent> events = List.of(new OrderEvent(1L, 1L, OrderEvent.Type.ORDER_PLACED, LocalDateTime.now(), "{}"));
+            assertThrows(IllegalStateException.class, () -> sink.deliver(events));
+            assertThrows(IllegalStateException.class, sink::checkEnabled);
+        } finally {
+            logger.setLevel(level);
+        }
+    }
+
+    /**
+     * Collects relayed events, or rejects them while {@code failing} is set.
+     */
+    @TestConfiguration
+    static class RecordingListener {
+
+        final List<OrderEvent> events = new CopyOnWriteArrayList<>();
+        volatile boolean failing;
+
+        @EventListener
+        public void onRelayed(OrderEventsRelayedEvent relayed) {
+            if (failing) {
+                throw new IllegalStateException("Sink unavailable");
+            }
+            events.addAll(relayed.events());
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.griddynamics.order_management;
+
+import com.griddynamics.order_management.model.Customer;
+import com.griddynamics.order_management.model.Order;
+import com.griddynamics.order_management.model.Product;
+import com.griddynamics.order_management.repository.CustomerRepository;
+import com.griddynamics.order_management.repository.ProductRepository;
+import com.griddynamics.order_management.service.OrderService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Verifies that the order read endpoints load orders with their items and products in a
+ * constant number of queries, independent of the number of orders and items returned.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        // keep background catalog snapshot rebuilds, change stamping and outbox relaying out of the statement counts
+        "catalog.snapshot.rebuild-delay-ms=600000",
+        "products.changes.stamp-interval-ms=600000",
+        "orders.outbox.relay-interval-ms=600000"
+})
+@AutoConfigureMockMvc
+public class OrderQueryCountTest {
+
+    private static final int ORDERS = 4;
+    private static final int ITEMS_PER_ORDER = 3;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Customer customer;
+    private Order order;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        customer = customerRepository.save(TestData.customer("Query count"));
+        for (int i = 0; i < ORDERS; i++) {
+            List<Product> products = new ArrayList<>();
+            for (int j = 0; j < ITEMS_PER_ORDER; j++) {
+                products.add(productRepository.save(TestData.product("Query count " + i + j, 1.0, 10)));
+            }
+            order = orderService.placeOrder(TestData.order(customer.getId(), products, 1));
+        }
+        statistics.clear();
+    }
+
+    @Test
+    void testGetOrderById_OneQuery() throws Exception {
+        mockMvc.perform(get("/api/orders/{id}", order.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.customerName").value("Query count"))
+                .andExpect(jsonPath("$.items.length()").value(ITEMS_PER_ORDER))
+                .andExpect(jsonPath("$.items[0].productName").exists());
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testGetOrdersByCustomerId_OneQuery() throws Exception {
+        mockMvc.perform(get("/api/orders/customers/{customerId}", customer.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(ORDERS))
+                .andExpect(jsonPath("$[0].itemCount").value(ITEMS_PER_ORDER))
+                .andExpect(jsonPath("$[0].totalAmount").value(ITEMS_PER_ORDER * 1.0));
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testGetAllOrdersPaged_TwoQueries() throws Exception {
+        mockMvc.perform(get("/api/orders/paged").param("size", String.valueOf(ORDERS)).param("sort", "id,desc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(ORDERS))
+                .andExpect(jsonPath("$.content[0].id").value(order.getId()))
+                .andExpect(jsonPath("$.content[0].itemCount").value(ITEMS_PER_ORDER));
+
+        // page of summaries + count
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+}
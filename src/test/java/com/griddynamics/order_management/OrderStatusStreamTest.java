@@ -0,0 +1,280 @@
+package com.griddynamics.order_management;
+
+import com.griddynamics.order_management.dto.OrderDetail;
+import com.griddynamics.order_management.event.OrderStatusChangedEvent;
+import com.griddynamics.order_management.model.Customer;
+import com.griddynamics.order_management.model.Order;
+import com.griddynamics.order_management.model.Product;
+import com.griddynamics.order_management.repository.CustomerRepository;
+import com.griddynamics.order_management.repository.ProductRepository;
+import com.griddynamics.order_management.service.CustomerService;
+import com.griddynamics.order_management.service.OrderService;
+import com.griddynamics.order_management.service.impl.OrderStatusStreamServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Verifies the order status streams: per-order and per-customer subscriptions, and eviction
+ * of subscribers that fall behind without holding up the others.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+public class OrderStatusStreamTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    private Customer customer;
+    private Order order;
+
+    @BeforeEach
+    void setUp() {
+        Product product = productRepository.save(TestData.product("Streamed", 1.5, 10));
+        customer = customerRepository.save(TestData.customer("Streamed"));
+        order = orderService.placeOrder(TestData.order(customer.getId(), product.getId(), 1));
+    }
+
+    @Test
+    void testOrderStream_CurrentStatusThenChanges() throws Exception {
+        MockHttpServletResponse stream = mockMvc.perform(get("/api/orders/{id}/events", order.getId())
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn().getResponse();
+        awaitTrue(() -> content(stream).contains("\"status\":\"PLACED\""));
+        assertTrue(content(stream).startsWith("event:status\ndata:"), content(stream));
+
+        mockMvc.perform(patch("/api/orders/{id}/status", order.getId())
+                        .contentType(MediaType.APPLICATION_JSON).content("{\"status\":\"SHIPPED\"}"))
+                .andExpect(status().isOk());
+        awaitTrue(() -> content(stream).contains("\"previousStatus\":\"PLACED\",\"status\":\"SHIPPED\""));
+    }
+
+    @Test
+    void testCustomerStream_OnlyOwnOrders() throws Exception {
+        Customer other = customerRepository.save(TestData.customer("Other"));
+        Order otherOrder = orderService.placeOrder(TestData.order(other.getId(),
+                order.getOrderItems().get(0).getProduct().getId(), 1));
+        MockHttpServletResponse stream = mockMvc.perform(get("/api/orders/customers/{customerId}/events", customer.getId()))
+                .andExpect(request().asyncStarted())
+                .andReturn().getResponse();
+
+        mockMvc.perform(put("/api/orders/{id}/cancel", otherOrder.getId())).andExpect(status().isOk());
+        mockMvc.perform(put("/api/orders/{id}/cancel", order.getId())).andExpect(status().isOk());
+
+        awaitTrue(() -> content(stream).contains("\"orderId\":" + order.getId()));
+        assertTrue(content(stream).contains("\"status\":\"CANCELLED\""));
+        assertFalse(content(stream).contains("\"orderId\":" + otherOrder.getId()), content(stream));
+    }
+
+    @Test
+    void testUnknownOrder_NotFound() throws Exception {
+        mockMvc.perform(get("/api/orders/{id}/events", Long.MAX_VALUE).accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void testSlowSubscriber_EvictedWithoutDelayingOthers() throws Exception {
+        OrderService orders = mock(OrderService.class);
+        when(orders.getOrderDetail(1L)).thenReturn(
+                new OrderDetail(1L, 7L, "Slow", LocalDateTime.now(), Order.OrderStatus.PLACED, List.of()));
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        CountDownLatch unblock = new CountDownLatch(1);
+        AtomicInteger fastReceived = new AtomicInteger();
+        List<SseEmitter> emitters = List.of(new BlockingEmitter(unblock), new CountingEmitter(fastReceived));
+        AtomicInteger created = new AtomicInteger();
+        OrderStatusStreamServiceImpl streams = new OrderStatusStreamServiceImpl(
+                orders, mock(CustomerService.class), meterRegistry, 2, 60_000) {
+            @Override
+            protected SseEmitter createEmitter(long timeoutMs) {
+                return emitters.get(created.getAndIncrement());
+            }
+        };
+        try {
+            streams.subscribeToOrder(1L);
+            streams.subscribeToOrder(1L);
+            awaitTrue(() -> fastReceived.get() == 1);
+
+            for (int i = 1; i <= 6; i++) {
+                streams.onStatusChanged(new OrderStatusChangedEvent(1L, 7L, Order.OrderStatus.PLACED,
+                        Order.OrderStatus.SHIPPED, LocalDateTime.now()));
+                int expected = i + 1;
+                awaitTrue(() -> fastReceived.get() == expected);
+            }
+
+            assertEquals(1, meterRegistry.get("orders.events.evicted").counter().count());
+            assertEquals(1, meterRegistry.get("orders.events.subscribers").gauge().value());
+        } finally {
+            unblock.countDown();
+            streams.shutdown();
+        }
+    }
+
+    @Test
+    void testSubscribeWhileLastSubscriberRemoved_ReceivesEvents() throws Exception {
+        Queue<SseEmitter> emitters = new ConcurrentLinkedQueue<>();
+        OrderStatusStreamServiceImpl streams = new OrderStatusStreamServiceImpl(
+                mock(OrderService.class), mock(CustomerService.class), new SimpleMeterRegistry(), 16, 60_000) {
+            @Override
+            protected SseEmitter createEmitter(long timeoutMs) {
+                return emitters.remove();
+            }
+        };
+        InterleavingMap<Long, Object> byCustomer = new InterleavingMap<>();
+        ReflectionTestUtils.setField(streams, "byCustomer", byCustomer);
+        DisconnectingEmitter leaving = new DisconnectingEmitter();
+        AtomicInteger received = new AtomicInteger();
+        emitters.add(leaving);
+        emitters.add(new CountingEmitter(received));
+        try {
+            streams.subscribeToCustomer(7L);
+            // the only subscriber disconnects right after the reconnecting client updated the index
+            byCustomer.afterNextUpdate = leaving::disconnect;
+            streams.subscribeToCustomer(7L);
+
+            streams.onStatusChanged(new OrderStatusChangedEvent(1L, 7L, Order.OrderStatus.PLACED,
+                    Order.OrderStatus.SHIPPED, LocalDateTime.now()));
+            awaitTrue(() -> received.get() == 1);
+        } finally {
+            streams.shutdown();
+        }
+    }
+
+    private static String content(MockHttpServletResponse response) {
+        try {
+            return response.getContentAsString();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                fail("Condition not met within 5 seconds");
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    /**
+     * An emitter whose client stops reading: every send blocks until released.
+     */
+    private static class BlockingEmitter extends SseEmitter {
+
+        private final CountDownLatch unblock;
+
+        BlockingEmitter(CountDownLatch unblock) {
+            this.unblock = unblock;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            try {
+                unblock.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * A subscription index that runs an action once, right after the next update of a key returns.
+     */
+    private static class InterleavingMap<K, V> extends ConcurrentHashMap<K, V> {
+
+        volatile Runnable afterNextUpdate;
+
+        @Override
+        public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+            return interleave(super.computeIfAbsent(key, mappingFunction));
+        }
+
+        @Override
+        public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+            return interleave(super.compute(key, remappingFunction));
+        }
+
+        private V interleave(V value) {
+            Runnable action = afterNextUpdate;
+            afterNextUpdate = null;
+            if (action != null) {
+                action.run();
+            }
+            return value;
+        }
+    }
+
+    /**
+     * An emitter whose client disconnects when told to.
+     */
+    private static class DisconnectingEmitter extends SseEmitter {
+
+        private volatile Runnable completion;
+
+        @Override
+        public synchronized void onCompletion(Runnable callback) {
+            completion = callback;
+        }
+
+        void disconnect() {
+            completion.run();
+        }
+    }
+
+    /**
+     * An emitter whose client reads everything immediately.
+     */
+    private static class CountingEmitter extends SseEmitter {
+
+        private final AtomicInteger received;
+
+        CountingEmitter(AtomicInteger received) {
+            this.received = received;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            received.incrementAndGet();
+        }
+    }
+}
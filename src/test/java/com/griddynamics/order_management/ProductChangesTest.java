@@ -0,0 +1,150 @@
+package com.griddynamics.order_management;
+
+import com.griddynamics.order_management.dto.ProductChange;
+import com.griddynamics.order_management.dto.ProductChanges;
+import com.griddynamics.order_management.dto.StockUpdateDTO;
+import com.griddynamics.order_management.model.Customer;
+import com.griddynamics.order_management.model.Order;
+import com.griddynamics.order_management.model.Product;
+import com.griddynamics.order_management.repository.CustomerRepository;
+import com.griddynamics.order_management.repository.ProductRepository;
+import com.griddynamics.order_management.service.OrderService;
+import com.griddynamics.order_management.service.ProductChangeService;
+import com.griddynamics.order_management.service.ProductService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Verifies that every product write is stamped with a new change version and surfaces
+ * in the incremental catalog sync.
+ */
+@SpringBootTest(properties = "products.changes.stamp-interval-ms=600000")
+@AutoConfigureMockMvc
+public class ProductChangesTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProductChangeService productChangeService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    private Customer customer;
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        customer = customerRepository.save(TestData.customer("Sync"));
+        product = productRepository.save(TestData.product("Sync product", 2.0, 10));
+    }
+
+    @Test
+    void testStockUpdates_BumpChangeVersion() {
+        long watermark = drain(0);
+
+        Order order = orderService.placeOrder(TestData.order(customer.getId(), product.getId(), 2));
+        watermark = assertChanged(watermark, 8);
+
+        orderService.cancelOrder(order.getId());
+        watermark = assertChanged(watermark, 10);
+
+        StockUpdateDTO stockUpdate = new StockUpdateDTO();
+        stockUpdate.setStockQuantity(4);
+        productService.updateProductStock(product.getId(), stockUpdate);
+        watermark = assertChanged(watermark, 4);
+
+        assertTrue(productChangeService.getChangesSince(watermark, 100).changes().isEmpty());
+    }
+
+    @Test
+    void testChangesEndpoint_ReturnsStampedChangesAndWatermark() throws Exception {
+        long watermark = drain(0);
+        productRepository.incrementStock(product.getId(), 1);
+        productChangeService.stampChanges();
+
+        mockMvc.perform(get("/api/products/changes").param("since", String.valueOf(watermark)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes[0].id").value(product.getId()))
+                .andExpect(jsonPath("$.changes[0].stockQuantity").value(11))
+                .andExpect(jsonPath("$.hasMore").value(false));
+
+        mockMvc.perform(get("/api/products/changes").param("since", String.valueOf(Long.MAX_VALUE)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes").isEmpty())
+                .andExpect(jsonPath("$.nextVersion").value(Long.MAX_VALUE))
+                .andExpect(jsonPath("$.hasMore").value(false));
+    }
+
+    @Test
+    void testGetChangesSince_PagesInVersionOrder() {
+        long start = drain(0);
+        productRepository.save(TestData.product("Sync page 1", 1.0, 1));
+        productRepository.save(TestData.product("Sync page 2", 1.0, 1));
+        productRepository.save(TestData.product("Sync page 3", 1.0, 1));
+        productChangeService.stampChanges();
+
+        ProductChanges first = productChangeService.getChangesSince(start, 2);
+        ProductChanges second = productChangeService.getChangesSince(first.nextVersion(), 2);
+
+        assertEquals(2, first.changes().size());
+        assertTrue(first.hasMore());
+        assertEquals(1, second.changes().size());
+        assertFalse(second.hasMore());
+        assertTrue(first.changes().get(0).version() < first.changes().get(1).version());
+        assertTrue(first.nextVersion() < second.changes().get(0).version());
+    }
+
+    /**
+     * Stamps pending changes and reads the sync feed to its end.
+     *
+     * @return the final watermark
+     */
+    private long drain(long since) {
+        productChangeService.stampChanges();
+        ProductChanges changes;
+        do {
+            changes = productChangeService.getChangesSince(since, 1000);
+            since = changes.nextVersion();
+        } while (changes.hasMore());
+        return since;
+    }
+
+    /**
+     * Asserts that the product changed exactly once after the watermark and has the expected stock.
+     *
+     * @return the new watermark
+     */
+    private long assertChanged(long watermark, int stockQuantity) {
+        productChangeService.stampChanges();
+        ProductChanges changes = productChangeService.getChangesSince(watermark, 100);
+        List<ProductChange> ours = changes.changes().stream()
+                .filter(change -> change.id().equals(product.getId()))
+                .toList();
+        assertEquals(1, ours.size());
+        assertEquals(stockQuantity, ours.get(0).stockQuantity());
+        assertTrue(ours.get(0).version() > watermark);
+        return changes.nextVersion();
+    }
+}
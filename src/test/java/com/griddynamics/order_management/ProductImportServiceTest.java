@@ -0,0 +1,122 @@
+package com.griddynamics.order_management;
+
+import com.griddynamics.order_management.dto.ProductImportResult;
+import com.griddynamics.order_management.model.Product;
+import com.griddynamics.order_management.repository.ProductRepository;
+import com.griddynamics.order_management.service.ProductImportService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "products.import.batch-size=2")
+public class ProductImportServiceTest {
+
+    @Autowired
+    private ProductImportService productImportService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Test
+    void testImportProducts_Csv() throws IOException {
+        Product existing = productRepository.save(TestData.product("Old name", 1.0, 1));
+        String csv = """
+                id,name,description,price,stockQuantity
+                ,Desk lamp %s,"Desk lamp, \"\"LED\"\"",19.5,10
+                %d,New name,,2.0,7
+                ,,missing name,3.0,1
+                ,Chair,,not-a-number,1
+                ,Table %s,,99.0,2
+                """.formatted(UUID.randomUUID(), existing.getId(), UUID.randomUUID());
+
+        ProductImportResult result = productImportService.importProducts(stream(csv), ProductImportService.Format.CSV);
+
+        assertEquals(5, result.getProcessed());
+        assertEquals(2, result.getCreated());
+        assertEquals(1, result.getUpdated());
+        assertEquals(2, result.getFailed());
+        assertEquals(4, result.getErrors().get(0).getLine());
+        assertEquals(5, result.getErrors().get(1).getLine());
+        Product updated = productRepository.findById(existing.getId()).orElseThrow();
+        assertEquals("New name", updated.getName());
+        assertEquals(7, updated.getStockQuantity());
+    }
+
+    @Test
+    void testImportProducts_Ndjson() throws IOException {
+        String ndjson = """
+                {"name":"Pen %s","price":1.5,"stockQuantity":100}
+                {"name":"Ink","price":-1,"stockQuantity":5}
+                {not json}
+                """.formatted(UUID.randomUUID());
+
+        ProductImportResult result = productImportService.importProducts(stream(ndjson), ProductImportService.Format.NDJSON);
+
+        assertEquals(3, result.getProcessed());
+        assertEquals(1, result.getCreated());
+        assertEquals(2, result.getFailed());
+        assertTrue(result.getErrors().get(0).getMessage().contains("price"));
+    }
+
+    @Test
+    void testImportProducts_ReimportUpdatesByName() throws IOException {
+        String name = "Lamp " + UUID.randomUUID();
+        String csv = """
+                name,price,stockQuantity
+                %s,19.5,10
+                """;
+
+        productImportService.importProducts(stream(csv.formatted(name)), ProductImportService.Format.CSV);
+        ProductImportResult result = productImportService.importProducts(
+                stream(csv.formatted(name).replace("19.5", "21.0")), ProductImportService.Format.CSV);
+
+        assertEquals(0, result.getCreated());
+        assertEquals(1, result.getUpdated());
+        List<Product> products = productRepository.findAllByNameIn(List.of(name));
+        assertEquals(1, products.size());
+        assertEquals(21.0, products.get(0).getPrice());
+    }
+
+    @Test
+    void testImportProducts_UnknownIdRejected() throws IOException {
+        String name = "Ghost " + UUID.randomUUID();
+        String ndjson = """
+                {"id":%d,"name":"%s","price":1.0,"stockQuantity":1}
+                """.formatted(Long.MAX_VALUE, name);
+
+        ProductImportResult result = productImportService.importProducts(stream(ndjson), ProductImportService.Format.NDJSON);
+
+        assertEquals(0, result.getCreated());
+        assertEquals(1, result.getFailed());
+        assertTrue(result.getErrors().get(0).getMessage().contains("not found"));
+        assertTrue(productRepository.findAllByNameIn(List.of(name)).isEmpty());
+    }
+
+    @Test
+    void testImportProducts_OnlyFailingRowOfChunkReported() throws IOException {
+        String name = "Sofa " + UUID.randomUUID();
+        String ndjson = """
+                {"name":"%s","price":1.0,"stockQuantity":1}
+                {"name":"%s too long","description":"%s","price":1.0,"stockQuantity":1}
+                """.formatted(name, name, "x".repeat(300));
+
+        ProductImportResult result = productImportService.importProducts(stream(ndjson), ProductImportService.Format.NDJSON);
+
+        assertEquals(1, result.getCreated());
+        assertEquals(1, result.getFailed());
+        assertEquals(2, result.getErrors().get(0).getLine());
+        assertEquals(1, productRepository.findAllByNameIn(List.of(name)).size());
+    }
+
+    private static ByteArrayInputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,16 +1,27 @@
 package com.griddynamics.order_management;
 
+import com.griddynamics.order_management.dto.CursorResponse;
+import com.griddynamics.order_management.dto.ProductListItem;
+import com.griddynamics.order_management.exception.InsufficientStockException;
+import com.griddynamics.order_management.exception.InvalidCursorException;
 import com.griddynamics.order_management.exception.ProductNotFoundException;
+import com.griddynamics.order_management.mapper.ProductMapper;
+import com.griddynamics.order_management.metrics.DomainMetrics;
 import com.griddynamics.order_management.model.Product;
 import com.griddynamics.order_management.repository.ProductRepository;
+import com.griddynamics.order_management.service.StockReservationService;
 import com.griddynamics.order_management.service.impl.ProductServiceImpl;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -23,7 +34,16 @@ public class ProductServiceImplTest {
     private ProductRepository productRepository;
 
     @Mock
-    private ModelMapper modelMapper;
+    private StockReservationService stockReservationService;
+
+    @Mock
+    private ProductMapper productMapper;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private DomainMetrics domainMetrics;
 
     @InjectMocks
     private ProductServiceImpl productService;
@@ -47,4 +67,77 @@ public class ProductServiceImplTest {
         assertThrows(ProductNotFoundException.class, () -> productService.getProductById(2L));
         verify(productRepository).findById(2L);
     }
-} 
\ No newline at end of file
+
+    @Test
+    void testReserveStock_ReturnsProductsWhenReserved() {
+        Product first = product(1L, "First", 6);
+        Product second = product(2L, "Second", 0);
+        when(productRepository.findAllById(anyCollection())).thenReturn(List.of(first, second));
+        when(stockReservationService.reserve(anyMap())).thenReturn(Map.of());
+
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
+        quantities.put(2L, 5);
+        quantities.put(1L, 4);
+        Map<Long, Product> result = productService.reserveStock(quantities);
+
+        assertEquals(2, result.size());
+        verify(stockReservationService).reserve(quantities);
+        verify(productRepository, never()).save(any());
+    }
+
+    @Test
+    void testReserveStock_ReportsEveryShortLine() {
+        Product first = product(1L, "First", 1);
+        Product second = product(2L, "Second", 2);
+        Product third = product(3L, "Third", 9);
+        when(productRepository.findAllById(anyCollection())).thenReturn(List.of(first, second, third));
+        when(stockReservationService.reserve(anyMap())).thenReturn(Map.of(1L, 1, 2L, 2));
+
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
+        quantities.put(1L, 3);
+        quantities.put(2L, 4);
+        quantities.put(3L, 1);
+        InsufficientStockException ex = assertThrows(InsufficientStockException.class,
+                () -> productService.reserveStock(quantities));
+
+        assertTrue(ex.getMessage().contains("First"));
+        assertTrue(ex.getMessage().contains("Second"));
+        assertFalse(ex.getMessage().contains("Third"));
+    }
+
+    @Test
+    void testReserveStock_ProductNotFound() {
+        when(productRepository.findAllById(anyCollection())).thenReturn(List.of());
+        assertThrows(ProductNotFoundException.class, () -> productService.reserveStock(Map.of(3L, 1)));
+        verifyNoInteractions(stockReservationService);
+    }
+
+    @Test
+    void testGetProductsAfter_ReturnsCursorToNextSlice() {
+        when(productRepository.findFirstByKeyset(Limit.of(3))).thenReturn(List.of(
+                new ProductListItem(1L, "A", 1.0, 1), new ProductListItem(2L, "B", 1.0, 1), new ProductListItem(3L, "C", 1.0, 1)));
+        CursorResponse<ProductListItem> first = productService.getProductsAfter(null, 2);
+
+        assertEquals(2, first.getSize());
+        assertTrue(first.isHasNext());
+
+        when(productRepository.findAfter("B", 2L, Limit.of(3))).thenReturn(List.of(new ProductListItem(3L, "C", 1.0, 1)));
+        CursorResponse<ProductListItem> second = productService.getProductsAfter(first.getNext(), 2);
+
+        assertEquals(1, second.getSize());
+        assertNull(second.getNext());
+    }
+
+    @Test
+    void testGetProductsAfter_InvalidCursor() {
+        assertThrows(InvalidCursorException.class, () -> productService.getProductsAfter("not-a-cursor", 10));
+    }
+
+    private static Product product(Long id, String name, int stock) {
+        Product product = new Product();
+        product.setId(id);
+        product.setName(name);
+        product.setStockQuantity(stock);
+        return product;
+    }
+}
@@ -0,0 +1,64 @@
+package com.griddynamics.order_management;
+
+import com.griddynamics.order_management.model.Customer;
+import com.griddynamics.order_management.model.Product;
+import com.griddynamics.order_management.repository.CustomerRepository;
+import com.griddynamics.order_management.repository.ProductRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Verifies the product and customer list endpoints respond with their lean read models.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+public class ReadProjectionTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Test
+    void testGetProductsPaged_ReturnsListItems() throws Exception {
+        Product product = TestData.product("Projection", 4.5, 7);
+        product.setDescription("long description");
+        productRepository.save(product);
+
+        mockMvc.perform(get("/api/products/paged").param("size", "1").param("sort", "id,desc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(product.getId()))
+                .andExpect(jsonPath("$.content[0].name").value("Projection"))
+                .andExpect(jsonPath("$.content[0].stockQuantity").value(7))
+                .andExpect(jsonPath("$.content[0].description").doesNotExist());
+    }
+
+    @Test
+    void testGetCustomers_ReturnsSummariesWithDefaultSort() throws Exception {
+        Customer customer = TestData.customer("Projection");
+        customer.setPhoneNumber("555");
+        customerRepository.save(customer);
+        String email = customer.getEmail();
+
+        mockMvc.perform(get("/api/customers").param("email", email))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(1))
+                .andExpect(jsonPath("$.content[0].id").value(customer.getId()))
+                .andExpect(jsonPath("$.content[0].email").value(email))
+                .andExpect(jsonPath("$.content[0].phoneNumber").doesNotExist());
+
+        mockMvc.perform(get("/api/customers").param("sort", "name,desc", "id"))
+                .andExpect(status().isOk());
+    }
+}
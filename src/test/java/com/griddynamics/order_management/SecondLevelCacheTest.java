@@ -0,0 +1,105 @@
+package com.griddynamics.order_management;
+
+import com.griddynamics.order_management.dto.ProductListItem;
+import com.griddynamics.order_management.dto.StockUpdateDTO;
+import com.griddynamics.order_management.model.Customer;
+import com.griddynamics.order_management.model.Product;
+import com.griddynamics.order_management.repository.CustomerRepository;
+import com.griddynamics.order_management.repository.ProductRepository;
+import com.griddynamics.order_management.service.CustomerService;
+import com.griddynamics.order_management.service.OrderService;
+import com.griddynamics.order_management.service.ProductService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// keep background catalog snapshot rebuilds, change stamping and outbox relaying out of the statement counts
+@SpringBootTest(properties = {
+        "catalog.snapshot.rebuild-delay-ms=600000",
+        "products.changes.stamp-interval-ms=600000",
+        "orders.outbox.relay-interval-ms=600000"
+})
+public class SecondLevelCacheTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private CustomerService customerService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Statistics statistics;
+    private Product product;
+    private Customer customer;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        product = productRepository.save(TestData.product("Cached", 3.0, 10));
+        customer = customerRepository.save(TestData.customer("Cached"));
+        statistics.clear();
+    }
+
+    @Test
+    void testGetById_ServedFromCacheWithoutQueries() {
+        productService.getProductById(product.getId());
+        customerService.getCustomerById(customer.getId());
+        customerService.getCustomersByIds(Set.of(customer.getId()));
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(3, statistics.getSecondLevelCacheHitCount());
+        assertNotNull(meterRegistry.find("hibernate.second.level.cache.requests")
+                .tags("region", "customer", "result", "hit")
+                .functionCounter());
+    }
+
+    @Test
+    void testUpdateProductStock_RefreshesCachedProduct() {
+        StockUpdateDTO stockUpdateDTO = new StockUpdateDTO();
+        stockUpdateDTO.setStockQuantity(42);
+        productService.updateProductStock(product.getId(), stockUpdateDTO);
+
+        assertEquals(42, productService.getProductById(product.getId()).getStockQuantity());
+    }
+
+    @Test
+    void testPlaceOrder_EvictsStaleProductAndCatalogPage() {
+        PageRequest page = PageRequest.of(0, 1, Sort.by(Sort.Direction.DESC, "id"));
+        assertEquals(10, productService.getAllProducts(page).getContent().get(0).stockQuantity());
+        productService.getAllProducts(page);
+        assertTrue(statistics.getQueryCacheHitCount() > 0);
+        productService.getProductById(product.getId());
+
+        orderService.placeOrder(TestData.order(customer.getId(), product.getId(), 4));
+
+        assertEquals(6, productService.getProductById(product.getId()).getStockQuantity());
+        Page<ProductListItem> refreshed = productService.getAllProducts(page);
+        assertEquals(6, refreshed.getContent().get(0).stockQuantity());
+    }
+}
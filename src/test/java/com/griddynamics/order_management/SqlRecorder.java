@@ -0,0 +1,61 @@
+package com.griddynamics.order_management;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Records the SQL statements Hibernate prepares, for tests that put a budget on them.
+ * <p>
+ * Registered per test context with
+ * {@code spring.jpa.properties.hibernate.session_factory.statement_inspector}. Hibernate
+ * creates its own instance, so the recording is static: statements prepared between
+ * {@link #start()} and {@link #stop()} are kept, on any thread, including those executed
+ * by asynchronous and streaming responses.
+ * </p>
+ */
+public class SqlRecorder implements StatementInspector {
+
+    private static final Queue<String> STATEMENTS = new ConcurrentLinkedQueue<>();
+    private static volatile boolean recording;
+
+    @Override
+    public String inspect(String sql) {
+        if (recording) {
+            STATEMENTS.add(sql);
+        }
+        return sql;
+    }
+
+    /**
+     * Discards earlier statements and starts recording.
+     */
+    public static void start() {
+        STATEMENTS.clear();
+        recording = true;
+    }
+
+    /**
+     * Stops recording.
+     *
+     * @return the statements recorded since {@link #start()}, in execution order
+     */
+    public static List<String> stop() {
+        recording = false;
+        return new ArrayList<>(STATEMENTS);
+    }
+
+    /**
+     * Formats statements one per line and numbered, for assertion messages.
+     */
+    public static String describe(List<String> statements) {
+        StringBuilder description = new StringBuilder();
+        for (int i = 0; i < statements.size(); i++) {
+            description.append(String.format("%n  %2d: %s", i + 1, statements.get(i).replaceAll("\\s+", " ")));
+        }
+        return description.toString();
+    }
+}
@@ -0,0 +1,265 @@
+package com.griddynamics.order_management;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.griddynamics.order_management.dto.OrderDTO;
+import com.griddynamics.order_management.model.Customer;
+import com.griddynamics.order_management.model.Order;
+import com.griddynamics.order_management.model.Product;
+import com.griddynamics.order_management.repository.CustomerRepository;
+import com.griddynamics.order_management.repository.ProductRepository;
+import com.griddynamics.order_management.service.OrderService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Puts an upper bound on the SQL statements each REST endpoint executes.
+ * <p>
+ * Every request runs against {@value #ORDERS} orders of {@value #ITEMS_PER_ORDER} items each,
+ * so a query per row (N+1) overshoots its budget by far. A test that exceeds its budget fails
+ * with the statements that were executed.
+ * </p>
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.griddynamics.order_management.SqlRecorder",
+        // keep background catalog snapshot rebuilds, change stamping and outbox relaying out of the statement counts
+        "catalog.snapshot.rebuild-delay-ms=600000",
+        "products.changes.stamp-interval-ms=600000",
+        "orders.outbox.relay-interval-ms=600000"
+})
+@AutoConfigureMockMvc
+public class StatementBudgetTest {
+
+    private static final int ORDERS = 50;
+    private static final int ITEMS_PER_ORDER = 3;
+    /**
+     * Statements of a placement independent of its size: products, customer, orders, items and outbox.
+     */
+    private static final int PLACEMENT_OVERHEAD = 5;
+    /**
+     * Sequence calls that allocate a new block of IDs for orders, order items and outbox entries.
+     */
+    private static final int ID_ALLOCATIONS = 3;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    private Customer customer;
+    private List<Product> products;
+    private Order order;
+
+    @BeforeEach
+    void setUp() {
+        customer = customerRepository.save(TestData.customer("Budget"));
+        products = new ArrayList<>();
+        for (int i = 0; i < ITEMS_PER_ORDER; i++) {
+            products.add(productRepository.save(TestData.product("Budget " + i, 1.0, 1_000)));
+        }
+        for (int i = 0; i < ORDERS; i++) {
+            order = orderService.placeOrder(TestData.order(customer.getId(), products, 1));
+        }
+    }
+
+    // --- OrderController ---
+
+    @Test
+    void testPlaceOrder() throws Exception {
+        // one conditional stock UPDATE for all order lines
+        assertBudget(PLACEMENT_OVERHEAD + 1 + ID_ALLOCATIONS, post("/api/orders").contentType(MediaType.APPLICATION_JSON).content(json(TestData.order(customer.getId(), products, 1))),
+                status().isCreated());
+    }
+
+    @Test
+    void testPlaceOrders_Batch() throws Exception {
+        List<OrderDTO> orders = Collections.nCopies(5, TestData.order(customer.getId(), products, 1));
+        assertBudget(PLACEMENT_OVERHEAD + orders.size() + ID_ALLOCATIONS, post("/api/orders/batch").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"orders\":" + json(orders) + "}"), status().isOk());
+    }
+
+    @Test
+    void testGetOrderById() throws Exception {
+        assertBudget(1, get("/api/orders/{id}", order.getId()), status().isOk());
+    }
+
+    @Test
+    void testCancelOrder() throws Exception {
+        // order with items, one stock increment for all lines, order update, outbox insert and its ID allocation
+        assertBudget(1 + 1 + 3, put("/api/orders/{id}/cancel", order.getId()), status().isOk());
+    }
+
+    @Test
+    void testUpdateOrderStatus() throws Exception {
+        // order with items, order update, outbox insert and its ID allocation
+        assertBudget(4, patch("/api/orders/{id}/status", order.getId()).contentType(MediaType.APPLICATION_JSON)
+                .content("{\"status\":\"SHIPPED\"}"), status().isOk());
+    }
+
+    @Test
+    void testGetIntakeStatus() throws Exception {
+        assertBudget(0, get("/api/orders/intake/{trackingId}", UUID.randomUUID()), status().isNotFound());
+    }
+
+    @Test
+    void testGetOrdersByCustomerId() throws Exception {
+        assertBudget(1, get("/api/orders/customers/{customerId}", customer.getId()), status().isOk());
+    }
+
+    @Test
+    void testStreamOrderStatus() throws Exception {
+        // the current status, read as a projection; changes are pushed without queries
+        assertBudget(1, get("/api/orders/{id}/events", order.getId()), request().asyncStarted());
+    }
+
+    @Test
+    void testStreamCustomerOrderStatus() throws Exception {
+        assertBudget(1, get("/api/orders/customers/{customerId}/events", customer.getId()), request().asyncStarted());
+    }
+
+    @Test
+    void testGetAllOrdersPaged() throws Exception {
+        assertBudget(3, get("/api/orders/paged").param("size", String.valueOf(ORDERS)), status().isOk());
+    }
+
+    @Test
+    void testGetOrdersByCursor() throws Exception {
+        assertBudget(2, get("/api/orders/cursor").param("size", String.valueOf(ORDERS)), status().isOk());
+    }
+
+    @Test
+    void testExportOrders() throws Exception {
+        SqlRecorder.start();
+        MvcResult started = mockMvc.perform(get("/api/orders/export")
+                        .param("from", LocalDateTime.now().minusDays(1).toString())
+                        .param("to", LocalDateTime.now().plusDays(1).toString()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(started)).andExpect(status().isOk());
+        assertWithinBudget(1, "GET /api/orders/export", SqlRecorder.stop());
+    }
+
+    // --- ProductController ---
+
+    @Test
+    void testCreateProduct() throws Exception {
+        assertBudget(2, post("/api/products").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"Budget new\",\"price\":1.0,\"stockQuantity\":1}"), status().isCreated());
+    }
+
+    @Test
+    void testImportProducts() throws Exception {
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < 20; i++) {
+            body.append("{\"name\":\"Imported ").append(i).append("\",\"price\":1.0,\"stockQuantity\":1}\n");
+        }
+        assertBudget(3, post("/api/products/import").contentType("application/x-ndjson").content(body.toString()),
+                status().isOk());
+    }
+
+    @Test
+    void testGetAllProducts() throws Exception {
+        assertBudget(1, get("/api/products"), status().isOk());
+    }
+
+    @Test
+    void testGetAllProductsPaged() throws Exception {
+        assertBudget(2, get("/api/products/paged").param("size", "50"), status().isOk());
+    }
+
+    @Test
+    void testUpdateProductStock() throws Exception {
+        assertBudget(3, put("/api/products/{id}/stock", products.get(0).getId()).contentType(MediaType.APPLICATION_JSON)
+                .content("{\"stockQuantity\":500}"), status().isOk());
+    }
+
+    @Test
+    void testGetProductsByCursor() throws Exception {
+        assertBudget(1, get("/api/products/cursor").param("size", "50"), status().isOk());
+    }
+
+    @Test
+    void testGetProductChanges() throws Exception {
+        assertBudget(1, get("/api/products/changes").param("limit", "50"), status().isOk());
+    }
+
+    // --- CustomerController ---
+
+    @Test
+    void testRegisterCustomer() throws Exception {
+        assertBudget(1, post("/api/customers").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Budget new\",\"email\":\"" + UUID.randomUUID() + "@example.com\"}"),
+                status().isCreated());
+    }
+
+    @Test
+    void testGetCustomerById() throws Exception {
+        assertBudget(1, get("/api/customers/{id}", customer.getId()), status().isOk());
+    }
+
+    @Test
+    void testGetCustomers() throws Exception {
+        assertBudget(2, get("/api/customers").param("name", "Budget").param("size", "50"), status().isOk());
+    }
+
+    @Test
+    void testGetCustomersByCursor() throws Exception {
+        assertBudget(1, get("/api/customers/cursor").param("size", "50"), status().isOk());
+    }
+
+    /**
+     * Performs the request and fails if it executed more than {@code budget} statements.
+     */
+    private void assertBudget(int budget, RequestBuilder request, ResultMatcher expectedStatus) throws Exception {
+        MvcResult result;
+        List<String> statements;
+        SqlRecorder.start();
+        try {
+            result = mockMvc.perform(request).andExpect(expectedStatus).andReturn();
+        } finally {
+            statements = SqlRecorder.stop();
+        }
+        assertWithinBudget(budget, result.getRequest().getMethod() + " " + result.getRequest().getRequestURI(), statements);
+    }
+
+    private static void assertWithinBudget(int budget, String endpoint, List<String> statements) {
+        assertTrue(statements.size() <= budget, () -> endpoint + " executed " + statements.size()
+                + " SQL statements, budget is " + budget + ":" + SqlRecorder.describe(statements));
+    }
+
+    private String json(Object value) throws Exception {
+        return objectMapper.writeValueAsString(value);
+    }
+}
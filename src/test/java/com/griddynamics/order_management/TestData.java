@@ -0,0 +1,63 @@
+package com.griddynamics.order_management;
+
+import com.griddynamics.order_management.dto.OrderDTO;
+import com.griddynamics.order_management.dto.OrderItemDTO;
+import com.griddynamics.order_management.model.Customer;
+import com.griddynamics.order_management.model.Product;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Builds the products, customers and order requests that the integration tests set up.
+ * Customers get a unique email, because the test contexts share one database.
+ */
+final class TestData {
+
+    private TestData() {
+    }
+
+    static Product product(String name, double price, int stockQuantity) {
+        return new Product(null, name, null, price, stockQuantity, null, null);
+    }
+
+    static Customer customer(String name) {
+        return new Customer(null, name, UUID.randomUUID() + "@example.com", null, new ArrayList<>());
+    }
+
+    static OrderDTO order(Long customerId, Long productId, int quantity) {
+        OrderDTO order = new OrderDTO();
+        order.setCustomerId(customerId);
+        order.setOrderItems(List.of(item(productId, quantity)));
+        return order;
+    }
+
+    /**
+     * Builds an order with one item of {@code quantity} units of each product.
+     */
+    static OrderDTO order(Long customerId, List<Product> products, int quantity) {
+        OrderDTO order = new OrderDTO();
+        order.setCustomerId(customerId);
+        order.setOrderItems(products.stream().map(product -> item(product.getId(), quantity)).toList());
+        return order;
+    }
+
+    /**
+     * Builds an order with one item per entry of {@code quantities}, keyed by product ID.
+     */
+    static OrderDTO order(Long customerId, Map<Long, Integer> quantities) {
+        OrderDTO order = new OrderDTO();
+        order.setCustomerId(customerId);
+        order.setOrderItems(quantities.entrySet().stream().map(entry -> item(entry.getKey(), entry.getValue())).toList());
+        return order;
+    }
+
+    private static OrderItemDTO item(Long productId, int quantity) {
+        OrderItemDTO item = new OrderItemDTO();
+        item.setProductId(productId);
+        item.setQuantity(quantity);
+        return item;
+    }
+}
@@ -0,0 +1,40 @@
+package com.griddynamics.order_management.benchmark;
+
+import com.griddynamics.order_management.OrderManagementApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Starts the application without a web server against a private in-memory H2 database,
+ * for use from JMH {@code @Setup} methods.
+ */
+public final class BenchmarkContext {
+
+    private BenchmarkContext() {
+    }
+
+    /**
+     * Starts a quiet application context.
+     *
+     * @param properties additional {@code key=value} properties overriding application.properties
+     * @return the started context; close it from {@code @TearDown}
+     */
+    public static ConfigurableApplicationContext start(String... properties) {
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        List<String> defaults = new ArrayList<>(List.of(
+                "spring.datasource.url=jdbc:h2:mem:benchmark-" + UUID.randomUUID() + ";DB_CLOSE_ON_EXIT=FALSE",
+                "spring.jpa.show-sql=false",
+                "logging.level.root=WARN",
+                "logging.level.org.springframework=WARN"));
+        defaults.addAll(List.of(properties));
+        // command line arguments take precedence over application.properties; default properties do not
+        return new SpringApplicationBuilder(OrderManagementApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(defaults.stream().map(property -> "--" + property).toArray(String[]::new));
+    }
+}
@@ -0,0 +1,228 @@
+package com.griddynamics.order_management.benchmark;
+
+import com.griddynamics.order_management.dto.OrderDTO;
+import com.griddynamics.order_management.dto.OrderItemDTO;
+import com.griddynamics.order_management.exception.InsufficientStockException;
+import com.griddynamics.order_management.model.Customer;
+import com.griddynamics.order_management.model.Order;
+import com.griddynamics.order_management.model.Product;
+import com.griddynamics.order_management.repository.CustomerRepository;
+import com.griddynamics.order_management.repository.ProductRepository;
+import com.griddynamics.order_management.service.OrderService;
+import com.griddynamics.order_management.service.StockReservationService;
+import com.griddynamics.order_management.service.impl.InMemoryStockReservationService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Many threads placing orders for the same product with limited stock, through {@link OrderService},
+ * for each inventory engine.
+ * <p>
+ * Every measurement iteration starts with a fresh product holding {@code stock} units. Successful
+ * and rejected (sold out) placements are reported separately as {@code placed} and {@code rejected}
+ * operations per millisecond. After each iteration the stock is reconciled: the units ordered in the
+ * database plus the remaining {@code stockQuantity} must equal the initial stock, the remaining stock
+ * must not be negative, and the database must agree with the placements the callers saw succeed.
+ * A violation fails the iteration and, with {@code -foe true}, the run.
+ * </p>
+ * <p>
+ * {@link #main(String[])} runs the benchmark once per thread count and prints the scaling curve:
+ * </p>
+ * <pre>
+ * mvn -Pbenchmark verify -Djmh.main=com.griddynamics.order_management.benchmark.HotSkuBenchmark \
+ *     -Djmh.includes=HotSkuBenchmark [-Djmh.args="-t 1,4,16,64"]
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+public class HotSkuBenchmark {
+
+    private static final int[] DEFAULT_THREADS = {1, 2, 4, 8, 16, 32, 64, 128, 256};
+
+    @Param({"database", "memory"})
+    private String engine;
+
+    @Param({"20000"})
+    private int stock;
+
+    private ConfigurableApplicationContext context;
+    private OrderService orderService;
+    private ProductRepository productRepository;
+    private StockReservationService stockReservationService;
+    private EntityManagerFactory entityManagerFactory;
+    private Long customerId;
+
+    private volatile Long productId;
+    private volatile OrderDTO orderDTO;
+    private final LongAdder orderedUnits = new LongAdder();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start("inventory.engine=" + engine);
+        orderService = context.getBean(OrderService.class);
+        productRepository = context.getBean(ProductRepository.class);
+        stockReservationService = context.getBean(StockReservationService.class);
+        entityManagerFactory = context.getBean(EntityManagerFactory.class);
+        customerId = context.getBean(CustomerRepository.class)
+                .save(new Customer(null, "Hot SKU", "hot-sku@example.com", null, new ArrayList<>()))
+                .getId();
+    }
+
+    @Setup(Level.Iteration)
+    public void newProduct() {
+        productId = productRepository.save(new Product(null, "Hot SKU", null, 1.0, stock, null, null)).getId();
+        OrderItemDTO item = new OrderItemDTO();
+        item.setProductId(productId);
+        item.setQuantity(1);
+        OrderDTO order = new OrderDTO();
+        order.setCustomerId(customerId);
+        order.setOrderItems(List.of(item));
+        orderDTO = order;
+        orderedUnits.reset();
+    }
+
+    @TearDown(Level.Iteration)
+    public void verifyNoOversell() {
+        if (stockReservationService instanceof InMemoryStockReservationService memory) {
+            memory.flush();
+        }
+        long ordered;
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            ordered = entityManager.createQuery(
+                            "SELECT COALESCE(SUM(i.quantity), 0) FROM OrderItem i " +
+                                    "WHERE i.product.id = :productId AND i.order.status <> :cancelled", Long.class)
+                    .setParameter("productId", productId)
+                    .setParameter("cancelled", Order.OrderStatus.CANCELLED)
+                    .getSingleResult();
+        } finally {
+            entityManager.close();
+        }
+        int remaining = productRepository.findStockLevels(List.of(productId)).get(0).getStockQuantity();
+        long acknowledged = orderedUnits.sum();
+        if (remaining < 0 || ordered + remaining != stock || ordered != acknowledged) {
+            throw new IllegalStateException(String.format(Locale.ROOT,
+                    "Oversell with engine=%s: initial stock %d, ordered %d, remaining %d, acknowledged %d",
+                    engine, stock, ordered, remaining, acknowledged));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void placeOrder(Outcomes outcomes) {
+        try {
+            orderService.placeOrder(orderDTO);
+            orderedUnits.increment();
+            outcomes.placed++;
+        } catch (InsufficientStockException e) {
+            outcomes.rejected++;
+        }
+    }
+
+    /**
+     * Per-thread counts of successful and sold-out placements, reported as secondary throughput results.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Outcomes {
+
+        public long placed;
+        public long rejected;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            placed = 0;
+            rejected = 0;
+        }
+    }
+
+    /**
+     * Runs the benchmark for each thread count and prints throughput and latency per engine.
+     * {@code -t} accepts a comma-separated list of thread counts (default 1 to 256 in powers of two);
+     * all other arguments are passed to JMH. Exits with status 1 if any run fails, including oversells.
+     */
+    public static void main(String[] args) throws Exception {
+        int[] threads = DEFAULT_THREADS;
+        List<String> jmhArgs = new ArrayList<>(Arrays.asList(args));
+        int t = jmhArgs.indexOf("-t");
+        if (t >= 0 && t + 1 < jmhArgs.size()) {
+            threads = Arrays.stream(jmhArgs.get(t + 1).split(",")).mapToInt(Integer::parseInt).toArray();
+            jmhArgs.subList(t, t + 2).clear();
+        }
+        CommandLineOptions options = new CommandLineOptions(jmhArgs.toArray(String[]::new));
+        if (options.getIncludes().isEmpty()) {
+            jmhArgs.add(HotSkuBenchmark.class.getSimpleName());
+            options = new CommandLineOptions(jmhArgs.toArray(String[]::new));
+        }
+
+        List<String> curve = new ArrayList<>();
+        curve.add(String.format(Locale.ROOT, "%-9s %7s %12s %12s %9s %9s",
+                "engine", "threads", "placed/ms", "rejected/ms", "p50 ms", "p99 ms"));
+        try {
+            for (int count : threads) {
+                Collection<RunResult> results = new Runner(new OptionsBuilder()
+                        .parent(options)
+                        .threads(count)
+                        .shouldFailOnError(true)
+                        .build()).run();
+                for (RunResult result : results) {
+                    curve.add(row(count, result, results));
+                }
+            }
+        } catch (RunnerException e) {
+            System.err.println("Hot SKU benchmark failed: " + e.getMessage());
+            System.exit(1);
+        }
+        curve.removeIf(String::isEmpty);
+        System.out.println();
+        curve.forEach(System.out::println);
+    }
+
+    /**
+     * Formats one line of the scaling curve from the throughput result of an engine, joined with
+     * the sample-time result of the same engine. Sample-time results produce no line of their own.
+     */
+    private static String row(int threads, RunResult result, Collection<RunResult> results) {
+        if (result.getParams().getMode() != Mode.Throughput) {
+            return "";
+        }
+        String engine = result.getParams().getParam("engine");
+        Result<?> placed = result.getSecondaryResults().get("placed");
+        Result<?> rejected = result.getSecondaryResults().get("rejected");
+        RunResult sample = results.stream()
+                .filter(other -> other.getParams().getMode() == Mode.SampleTime)
+                .filter(other -> engine.equals(other.getParams().getParam("engine")))
+                .findFirst()
+                .orElse(null);
+        return String.format(Locale.ROOT, "%-9s %7d %12.3f %12.3f %9.3f %9.3f",
+                engine, threads,
+                placed == null ? 0 : placed.getScore(),
+                rejected == null ? 0 : rejected.getScore(),
+                sample == null ? Double.NaN : sample.getPrimaryResult().getStatistics().getPercentile(50),
+                sample == null ? Double.NaN : sample.getPrimaryResult().getStatistics().getPercentile(99));
+    }
+}
@@ -0,0 +1,121 @@
+package com.griddynamics.order_management.benchmark;
+
+import com.griddynamics.order_management.dto.CustomerDTO;
+import com.griddynamics.order_management.dto.OrderDTO;
+import com.griddynamics.order_management.dto.ProductDTO;
+import com.griddynamics.order_management.mapper.CustomerMapper;
+import com.griddynamics.order_management.mapper.CustomerMapperImpl;
+import com.griddynamics.order_management.mapper.OrderMapper;
+import com.griddynamics.order_management.mapper.OrderMapperImpl;
+import com.griddynamics.order_management.mapper.ProductMapper;
+import com.griddynamics.order_management.mapper.ProductMapperImpl;
+import com.griddynamics.order_management.model.Customer;
+import com.griddynamics.order_management.model.Order;
+import com.griddynamics.order_management.model.OrderItem;
+import com.griddynamics.order_management.model.Product;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the generated MapStruct mappers with the reflective {@link ModelMapper} they replaced,
+ * for every DTO/entity pair. Run with {@code -prof gc} to see the allocation rate per mapping:
+ * <pre>
+ * mvn -Pbenchmark verify -Djmh.includes=MappingBenchmark -Djmh.args="-prof gc"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MappingBenchmark {
+
+    private static final int ITEMS_PER_ORDER = 10;
+
+    private ModelMapper modelMapper;
+    private ProductMapper productMapper;
+    private CustomerMapper customerMapper;
+    private OrderMapper orderMapper;
+
+    private ProductDTO productDTO;
+    private CustomerDTO customerDTO;
+    private Order order;
+
+    @Setup
+    public void setUp() {
+        modelMapper = new ModelMapper();
+        productMapper = new ProductMapperImpl();
+        customerMapper = new CustomerMapperImpl();
+        orderMapper = new OrderMapperImpl();
+
+        productDTO = new ProductDTO();
+        productDTO.setName("Benchmark product");
+        productDTO.setDescription("Description");
+        productDTO.setPrice(9.99);
+        productDTO.setStockQuantity(100);
+
+        customerDTO = new CustomerDTO();
+        customerDTO.setName("Benchmark customer");
+        customerDTO.setEmail("benchmark@example.com");
+        customerDTO.setPhoneNumber("555-0100");
+
+        Customer customer = new Customer(1L, "Benchmark customer", "benchmark@example.com", null, new ArrayList<>());
+        order = new Order();
+        order.setId(1L);
+        order.setCustomer(customer);
+        order.setOrderDate(LocalDateTime.now());
+        order.setStatus(Order.OrderStatus.PLACED);
+        List<OrderItem> items = new ArrayList<>();
+        for (int i = 0; i < ITEMS_PER_ORDER; i++) {
+            Product product = new Product((long) i, "Product " + i, null, 1.0, 10, null, null);
+            items.add(new OrderItem((long) i, product, order, 1, 1.0));
+        }
+        order.setOrderItems(items);
+    }
+
+    @Benchmark
+    public Product productToEntityModelMapper() {
+        return modelMapper.map(productDTO, Product.class);
+    }
+
+    @Benchmark
+    public Product productToEntityGenerated() {
+        return productMapper.toEntity(productDTO);
+    }
+
+    @Benchmark
+    public ProductDTO productToDtoModelMapper() {
+        return modelMapper.map(order.getOrderItems().get(0).getProduct(), ProductDTO.class);
+    }
+
+    @Benchmark
+    public ProductDTO productToDtoGenerated() {
+        return productMapper.toDto(order.getOrderItems().get(0).getProduct());
+    }
+
+    @Benchmark
+    public Customer customerToEntityModelMapper() {
+        return modelMapper.map(customerDTO, Customer.class);
+    }
+
+    @Benchmark
+    public Customer customerToEntityGenerated() {
+        return customerMapper.toEntity(customerDTO);
+    }
+
+    @Benchmark
+    public OrderDTO orderToDtoModelMapper() {
+        return modelMapper.map(order, OrderDTO.class);
+    }
+
+    @Benchmark
+    public OrderDTO orderToDtoGenerated() {
+        return orderMapper.toDto(order);
+    }
+}
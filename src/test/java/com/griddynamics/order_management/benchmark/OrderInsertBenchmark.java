@@ -0,0 +1,82 @@
+package com.griddynamics.order_management.benchmark;
+
+import com.griddynamics.order_management.model.Customer;
+import com.griddynamics.order_management.model.Order;
+import com.griddynamics.order_management.model.OrderItem;
+import com.griddynamics.order_management.model.Product;
+import com.griddynamics.order_management.repository.CustomerRepository;
+import com.griddynamics.order_management.repository.OrderRepository;
+import com.griddynamics.order_management.repository.ProductRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures insert throughput of orders with N items.
+ * <p>
+ * {@code batchSize=1} reproduces the previous row-by-row behaviour (one INSERT round trip per
+ * order and per item, as forced by IDENTITY keys); {@code batchSize=50} is the configuration
+ * enabled by pooled sequence keys, where the items of an order are sent as one JDBC batch.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderInsertBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int itemsPerOrder;
+
+    @Param({"1", "50"})
+    private int batchSize;
+
+    private ConfigurableApplicationContext context;
+    private OrderRepository orderRepository;
+    private TransactionTemplate transactionTemplate;
+    private Customer customer;
+    private List<Product> products;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContext.start("spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize);
+        orderRepository = context.getBean(OrderRepository.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+
+        customer = context.getBean(CustomerRepository.class)
+                .save(new Customer(null, "Benchmark", "benchmark@example.com", null, new ArrayList<>()));
+        List<Product> newProducts = new ArrayList<>();
+        for (int i = 0; i < itemsPerOrder; i++) {
+            newProducts.add(new Product(null, "Product " + i, null, 10.0, Integer.MAX_VALUE, null, null));
+        }
+        products = context.getBean(ProductRepository.class).saveAll(newProducts);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Long insertOrder() {
+        return transactionTemplate.execute(status -> {
+            Order order = new Order();
+            order.setCustomer(customer);
+            order.setOrderDate(LocalDateTime.now());
+            order.setStatus(Order.OrderStatus.PLACED);
+            List<OrderItem> items = new ArrayList<>(products.size());
+            for (Product product : products) {
+                items.add(new OrderItem(null, product, order, 1, product.getPrice()));
+            }
+            order.setOrderItems(items);
+            return orderRepository.save(order).getId();
+        });
+    }
+}
@@ -0,0 +1,95 @@
+package com.griddynamics.order_management.benchmark;
+
+import com.griddynamics.order_management.dto.OrderDTO;
+import com.griddynamics.order_management.dto.OrderItemDTO;
+import com.griddynamics.order_management.model.Customer;
+import com.griddynamics.order_management.model.Order;
+import com.griddynamics.order_management.model.Product;
+import com.griddynamics.order_management.repository.CustomerRepository;
+import com.griddynamics.order_management.repository.ProductRepository;
+import com.griddynamics.order_management.service.OrderService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the order hot path end to end through {@link OrderService}: customer lookup, stock
+ * reservation, order insert and commit, against the in-memory H2 database.
+ * <p>
+ * Every benchmark reports throughput and sampled latency percentiles; the profile adds
+ * {@code -prof gc} for the allocation rate per operation:
+ * </p>
+ * <pre>
+ * mvn -Pbenchmark verify -Djmh.includes=OrderPlacementBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderPlacementBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int lines;
+
+    private ConfigurableApplicationContext context;
+    private OrderService orderService;
+    private OrderDTO orderDTO;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContext.start();
+        orderService = context.getBean(OrderService.class);
+
+        Customer customer = context.getBean(CustomerRepository.class)
+                .save(new Customer(null, "Benchmark", "benchmark@example.com", null, new ArrayList<>()));
+        List<Product> newProducts = new ArrayList<>();
+        for (int i = 0; i < lines; i++) {
+            newProducts.add(new Product(null, "Product " + i, null, 10.0, Integer.MAX_VALUE, null, null));
+        }
+        List<OrderItemDTO> items = new ArrayList<>(lines);
+        for (Product product : context.getBean(ProductRepository.class).saveAll(newProducts)) {
+            OrderItemDTO item = new OrderItemDTO();
+            item.setProductId(product.getId());
+            item.setQuantity(1);
+            items.add(item);
+        }
+        orderDTO = new OrderDTO();
+        orderDTO.setCustomerId(customer.getId());
+        orderDTO.setOrderItems(items);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Order placeOrder() {
+        return orderService.placeOrder(orderDTO);
+    }
+
+    @Benchmark
+    public Order cancelOrder(PlacedOrder placedOrder) {
+        return orderService.cancelOrder(placedOrder.id);
+    }
+
+    /**
+     * A freshly placed order for every {@link #cancelOrder(PlacedOrder)} call; placing it is not measured.
+     */
+    @State(Scope.Thread)
+    public static class PlacedOrder {
+
+        private Long id;
+
+        @Setup(Level.Invocation)
+        public void place(OrderPlacementBenchmark benchmark) {
+            id = benchmark.orderService.placeOrder(benchmark.orderDTO).getId();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.griddynamics.order_management.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.griddynamics.order_management.dto.OrderSummary;
+import com.griddynamics.order_management.dto.PaginatedResponse;
+import com.griddynamics.order_management.model.Customer;
+import com.griddynamics.order_management.model.Order;
+import com.griddynamics.order_management.model.OrderItem;
+import com.griddynamics.order_management.model.Product;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures Jackson serialization of the main response bodies with the application's own
+ * {@link ObjectMapper}: an {@link Order} entity with {@code size} items, as returned by
+ * {@code GET /api/orders/{id}}, and a {@link PaginatedResponse} page of {@code size} order summaries.
+ * <pre>
+ * mvn -Pbenchmark verify -Djmh.includes=SerializationBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int size;
+
+    private ConfigurableApplicationContext context;
+    private ObjectMapper objectMapper;
+    private Order order;
+    private PaginatedResponse<OrderSummary> page;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContext.start();
+        objectMapper = context.getBean(ObjectMapper.class);
+
+        Customer customer = new Customer(1L, "Benchmark customer", "benchmark@example.com", "555-0100", new ArrayList<>());
+        order = new Order();
+        order.setId(1L);
+        order.setCustomer(customer);
+        order.setOrderDate(LocalDateTime.now());
+        order.setStatus(Order.OrderStatus.PLACED);
+        List<OrderItem> items = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Product product = new Product((long) i, "Product " + i, "Description of product " + i, 9.99, 100, 0L, (long) i);
+            items.add(new OrderItem((long) i, product, order, 1, 9.99));
+        }
+        order.setOrderItems(items);
+
+        List<OrderSummary> summaries = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            summaries.add(new OrderSummary((long) i, 1L, "Benchmark customer", LocalDateTime.now(),
+                    Order.OrderStatus.PLACED, 3, 29.97));
+        }
+        page = new PaginatedResponse<>(new PageImpl<>(summaries, PageRequest.of(0, size), 10_000));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public byte[] order() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(order);
+    }
+
+    @Benchmark
+    public byte[] paginatedResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
@@ -0,0 +1,125 @@
+package com.griddynamics.order_management.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histograms per endpoint and the resulting throughput/percentile report.
+ * <p>
+ * Latencies are recorded in microseconds from the request's intended start time, so a saturated
+ * server shows up as queueing delay instead of being hidden by a slower send rate. Each step (a
+ * target rate or a configuration under test) becomes one row per endpoint plus an {@code ALL} row
+ * in both the console table and the CSV file.
+ * </p>
+ */
+class LatencyReport {
+
+    private static final long MAX_LATENCY_US = TimeUnit.MINUTES.toMicros(1);
+    private static final String CSV_HEADER =
+            "step,endpoint,requests,errors,throughput_rps,p50_ms,p90_ms,p99_ms,p999_ms,max_ms";
+
+    private final Map<Workload.Endpoint, Recorder> recorders = new EnumMap<>(Workload.Endpoint.class);
+    private final Map<Workload.Endpoint, LongAdder> errors = new EnumMap<>(Workload.Endpoint.class);
+    private final List<String> rows = new ArrayList<>();
+
+    LatencyReport() {
+        for (Workload.Endpoint endpoint : Workload.Endpoint.values()) {
+            recorders.put(endpoint, new Recorder(MAX_LATENCY_US, 3));
+            errors.put(endpoint, new LongAdder());
+        }
+    }
+
+    /**
+     * Records one completed request. Thread-safe.
+     *
+     * @param endpoint the endpoint called
+     * @param latencyNanos time from intended start to response
+     * @param error whether the request failed or returned an unexpected status
+     */
+    void record(Workload.Endpoint endpoint, long latencyNanos, boolean error) {
+        recorders.get(endpoint).recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), MAX_LATENCY_US));
+        if (error) {
+            errors.get(endpoint).increment();
+        }
+    }
+
+    /**
+     * Discards everything recorded so far, e.g. at the end of a warmup.
+     */
+    void reset() {
+        recorders.values().forEach(Recorder::reset);
+        errors.values().forEach(LongAdder::reset);
+    }
+
+    /**
+     * Closes a step: prints its rows and keeps them for the CSV file.
+     *
+     * @param step the label of the step, e.g. its target rate
+     * @param elapsedNanos the measured duration of the step
+     * @param out where to print the table
+     */
+    void completeStep(String step, long elapsedNanos, PrintStream out) {
+        double seconds = elapsedNanos / 1e9;
+        Histogram all = new Histogram(MAX_LATENCY_US, 3);
+        long allErrors = 0;
+        out.printf(Locale.ROOT, "%n=== %s ===%n", step);
+        out.printf(Locale.ROOT, "%-30s %9s %7s %10s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "rps", "p50 ms", "p90 ms", "p99 ms", "p999 ms", "max ms");
+        for (Workload.Endpoint endpoint : Workload.Endpoint.values()) {
+            Histogram histogram = recorders.get(endpoint).getIntervalHistogram();
+            long endpointErrors = errors.get(endpoint).sumThenReset();
+            all.add(histogram);
+            allErrors += endpointErrors;
+            row(step, endpoint.label(), histogram, endpointErrors, seconds, out);
+        }
+        row(step, "ALL", all, allErrors, seconds, out);
+    }
+
+    /**
+     * Writes the rows of all completed steps to a CSV file.
+     *
+     * @param file the file to write
+     */
+    void writeCsv(Path file) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+            for (String row : rows) {
+                writer.write(row);
+                writer.write('\n');
+            }
+        }
+    }
+
+    private void row(String step, String label, Histogram histogram, long errorCount, double seconds, PrintStream out) {
+        long count = histogram.getTotalCount();
+        double throughput = count / seconds;
+        out.printf(Locale.ROOT, "%-30s %9d %7d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                label, count, errorCount, throughput,
+                ms(histogram, 50), ms(histogram, 90), ms(histogram, 99), ms(histogram, 99.9),
+                histogram.getMaxValue() / 1000.0);
+        rows.add(String.format(Locale.ROOT, "%s,%s,%d,%d,%.1f,%.3f,%.3f,%.3f,%.3f,%.3f",
+                step, label, count, errorCount, throughput,
+                ms(histogram, 50), ms(histogram, 90), ms(histogram, 99), ms(histogram, 99.9),
+                histogram.getMaxValue() / 1000.0));
+    }
+
+    private static double ms(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+}
@@ -0,0 +1,168 @@
+package com.griddynamics.order_management.loadtest;
+
+import com.griddynamics.order_management.OrderManagementApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-loop HTTP load generator for the whole application.
+ * <p>
+ * Requests arrive as a Poisson process at each configured rate, independently of how fast the
+ * server answers, and every request runs on its own virtual thread. Latency is measured from the
+ * moment a request was scheduled to arrive, so queueing caused by an overloaded server is part of
+ * the result (no coordinated omission). Each rate step has an unrecorded warmup.
+ * </p>
+ * <p>
+ * Without {@code target} the application is started in this JVM on a random port against a fresh
+ * in-memory database; otherwise an already running instance is loaded. Run with:
+ * </p>
+ * <pre>
+ * mvn -Ploadtest verify [-Dloadtest.rates=50,100,200] [-Dloadtest.duration=30] [-Dloadtest.target=http://localhost:8080]
+ * </pre>
+ * <p>
+ * Arguments are {@code key=value} pairs: {@code target}, {@code rates}, {@code duration} and
+ * {@code warmup} (seconds per step), {@code customers}, {@code products}, {@code max-lines} and
+ * {@code report} (CSV file, default {@code target/loadtest/report-<timestamp>.csv}).
+ * </p>
+ */
+public final class LoadTest {
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        int[] rates = Arrays.stream(options.getOrDefault("rates", "50,100,200").split(","))
+                .map(String::trim)
+                .mapToInt(Integer::parseInt)
+                .toArray();
+        Duration duration = Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration", "30")));
+        Duration warmup = Duration.ofSeconds(Long.parseLong(options.getOrDefault("warmup", "10")));
+        Path reportFile = Path.of(options.getOrDefault("report", "target/loadtest/report-"
+                + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".csv"));
+
+        ConfigurableApplicationContext context = null;
+        String target = options.getOrDefault("target", "");
+        if (target.isBlank()) {
+            context = startApplication();
+            target = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+        }
+
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        try (HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(executor)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build()) {
+            Workload workload = new Workload(URI.create(target), client,
+                    Integer.parseInt(options.getOrDefault("customers", "100")),
+                    Integer.parseInt(options.getOrDefault("products", "500")),
+                    Integer.parseInt(options.getOrDefault("max-lines", "5")));
+            System.out.println("Seeding " + target + " ...");
+            workload.seed();
+
+            LatencyReport report = new LatencyReport();
+            for (int rate : rates) {
+                run(client, executor, workload, report, rate, warmup);
+                report.reset();
+                long elapsed = run(client, executor, workload, report, rate, duration);
+                report.completeStep(rate + " req/s", elapsed, System.out);
+            }
+            report.writeCsv(reportFile);
+            System.out.println("\nReport written to " + reportFile.toAbsolutePath());
+        } finally {
+            executor.shutdownNow();
+            if (context != null) {
+                context.close();
+            }
+        }
+    }
+
+    /**
+     * Sends requests at {@code rate} per second for {@code duration} and waits for the stragglers.
+     *
+     * @return the elapsed time in nanoseconds, including the wait for outstanding responses
+     */
+    private static long run(HttpClient client, ExecutorService executor, Workload workload, LatencyReport report,
+                            int rate, Duration duration) throws InterruptedException {
+        Random arrivals = new Random(rate);
+        double meanGapNanos = 1e9 / rate;
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        long intended = start;
+        ExecutorService step = Executors.newVirtualThreadPerTaskExecutor();
+        while (true) {
+            intended += (long) (-Math.log(1 - arrivals.nextDouble()) * meanGapNanos);
+            if (intended >= end) {
+                break;
+            }
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            long scheduled = intended;
+            Workload.Call call = workload.next();
+            step.execute(() -> {
+                boolean error;
+                try {
+                    HttpResponse<byte[]> response = client.send(call.request(), HttpResponse.BodyHandlers.ofByteArray());
+                    error = response.statusCode() >= 400;
+                    workload.onResponse(call, response);
+                } catch (Exception e) {
+                    error = true;
+                }
+                report.record(call.endpoint(), System.nanoTime() - scheduled, error);
+            });
+        }
+        step.shutdown();
+        step.awaitTermination(1, TimeUnit.MINUTES);
+        return Math.max(System.nanoTime() - start, duration.toNanos());
+    }
+
+    /**
+     * Starts the application on a random port with request logging and SQL output switched off.
+     *
+     * @param overrides additional {@code --key=value} arguments
+     */
+    static ConfigurableApplicationContext startApplication(String... overrides) {
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        List<String> args = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:loadtest-" + UUID.randomUUID() + ";DB_CLOSE_ON_EXIT=FALSE",
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN",
+                "--logging.level.org.springframework=WARN"));
+        args.addAll(List.of(overrides));
+        return new SpringApplicationBuilder(OrderManagementApplication.class).run(args.toArray(String[]::new));
+    }
+
+    static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator > 0) {
+                options.put(arg.substring(0, separator).replaceFirst("^--", ""), arg.substring(separator + 1));
+            }
+        }
+        return options;
+    }
+}
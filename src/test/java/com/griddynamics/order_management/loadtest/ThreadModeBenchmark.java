@@ -0,0 +1,122 @@
+package com.griddynamics.order_management.loadtest;
+
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares request execution on platform threads with execution on virtual threads
+ * ({@code spring.threads.virtual.enabled}) under many concurrent clients.
+ * <p>
+ * For each mode the application is started in this JVM against a fresh in-memory database and
+ * seeded, and {@code clients} closed-loop clients then send the {@link Workload} mix back to back
+ * for an unrecorded warmup followed by the measured duration. Throughput, latency percentiles and
+ * errors (including 503s from the virtual-thread concurrency limit) are reported per endpoint and
+ * mode and written to a CSV file. Run with:
+ * </p>
+ * <pre>
+ * mvn -Pthreadmodes verify [-Dthreadmodes.clients=1000] [-Dthreadmodes.duration=30]
+ * </pre>
+ * <p>
+ * Arguments are {@code key=value} pairs: {@code modes} ({@code platform,virtual}), {@code clients},
+ * {@code duration} and {@code warmup} (seconds per mode), {@code customers}, {@code products},
+ * {@code max-lines} and {@code report} (CSV file, default
+ * {@code target/loadtest/thread-modes-<timestamp>.csv}). Running with
+ * {@code -Djdk.tracePinnedThreads=short} reports virtual threads pinned to their carrier.
+ * </p>
+ */
+public final class ThreadModeBenchmark {
+
+    private ThreadModeBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = LoadTest.parse(args);
+        List<String> modes = Arrays.stream(options.getOrDefault("modes", "platform,virtual").split(","))
+                .map(String::trim)
+                .toList();
+        int clients = Integer.parseInt(options.getOrDefault("clients", "1000"));
+        Duration duration = Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration", "30")));
+        Duration warmup = Duration.ofSeconds(Long.parseLong(options.getOrDefault("warmup", "10")));
+        Path reportFile = Path.of(options.getOrDefault("report", "target/loadtest/thread-modes-"
+                + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".csv"));
+
+        LatencyReport report = new LatencyReport();
+        for (String mode : modes) {
+            if (!mode.equals("platform") && !mode.equals("virtual")) {
+                throw new IllegalArgumentException("Unknown mode " + mode + ", expected platform or virtual");
+            }
+            ConfigurableApplicationContext context =
+                    LoadTest.startApplication("--spring.threads.virtual.enabled=" + mode.equals("virtual"));
+            ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+            try (HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .executor(executor)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build()) {
+                URI target = URI.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port"));
+                Workload workload = new Workload(target, client,
+                        Integer.parseInt(options.getOrDefault("customers", "100")),
+                        Integer.parseInt(options.getOrDefault("products", "500")),
+                        Integer.parseInt(options.getOrDefault("max-lines", "5")));
+                System.out.println("Seeding " + mode + " threads on " + target + " ...");
+                workload.seed();
+
+                long elapsed = run(client, workload, report, clients, warmup, duration);
+                report.completeStep(mode + " threads, " + clients + " clients", elapsed, System.out);
+            } finally {
+                executor.shutdownNow();
+                context.close();
+            }
+        }
+        report.writeCsv(reportFile);
+        System.out.println("\nReport written to " + reportFile.toAbsolutePath());
+    }
+
+    /**
+     * Runs {@code clients} closed-loop clients for {@code warmup} plus {@code duration} and
+     * discards what was recorded during the warmup.
+     *
+     * @return the measured time in nanoseconds, from the end of the warmup until the last client stopped
+     */
+    private static long run(HttpClient client, Workload workload, LatencyReport report, int clients,
+                            Duration warmup, Duration duration) throws InterruptedException {
+        long measureFrom = System.nanoTime() + warmup.toNanos();
+        long end = measureFrom + duration.toNanos();
+        ExecutorService step = Executors.newVirtualThreadPerTaskExecutor();
+        for (int i = 0; i < clients; i++) {
+            step.execute(() -> {
+                while (System.nanoTime() < end) {
+                    Workload.Call call = workload.next();
+                    long start = System.nanoTime();
+                    boolean error;
+                    try {
+                        HttpResponse<byte[]> response = client.send(call.request(), HttpResponse.BodyHandlers.ofByteArray());
+                        error = response.statusCode() >= 400;
+                        workload.onResponse(call, response);
+                    } catch (Exception e) {
+                        error = true;
+                    }
+                    if (start >= measureFrom) {
+                        report.record(call.endpoint(), System.nanoTime() - start, error);
+                    }
+                }
+            });
+        }
+        step.shutdown();
+        step.awaitTermination(duration.plus(warmup).toMinutes() + 1, TimeUnit.MINUTES);
+        return Math.max(System.nanoTime() - measureFrom, duration.toNanos());
+    }
+}
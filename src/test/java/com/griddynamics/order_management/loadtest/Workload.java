@@ -0,0 +1,185 @@
+package com.griddynamics.order_management.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The request mix of the load test and the data it runs against.
+ * <p>
+ * {@link #seed()} creates customers, products with practically unlimited stock and a pool of
+ * placed orders through the public API. Each call to {@link #next()} then draws one request from
+ * the production mix: 70% catalog reads, 20% order placements, 5% cancellations of previously
+ * placed orders and 5% customer searches.
+ * </p>
+ */
+class Workload {
+
+    /**
+     * Endpoints of the mix, in the order they appear in the report.
+     */
+    enum Endpoint {
+        CATALOG("GET /api/products", 70),
+        PLACE_ORDER("POST /api/orders", 20),
+        CANCEL_ORDER("PUT /api/orders/{id}/cancel", 5),
+        SEARCH_CUSTOMERS("GET /api/customers", 5);
+
+        private final String label;
+        private final int weight;
+
+        Endpoint(String label, int weight) {
+            this.label = label;
+            this.weight = weight;
+        }
+
+        String label() {
+            return label;
+        }
+    }
+
+    /**
+     * One request of the mix.
+     *
+     * @param endpoint the endpoint, for the report
+     * @param request the HTTP request to send
+     */
+    record Call(Endpoint endpoint, HttpRequest request) {
+    }
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+    private static final String[] NAME_PREFIXES = {"Al", "Be", "Ca", "Da", "El", "Fr", "Gi", "Ha"};
+
+    private final URI target;
+    private final HttpClient client;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final int customerCount;
+    private final int productCount;
+    private final int maxLines;
+
+    private final List<Long> customerIds = new ArrayList<>();
+    private final List<Long> productIds = new ArrayList<>();
+    private final Queue<Long> placedOrderIds = new ConcurrentLinkedQueue<>();
+
+    Workload(URI target, HttpClient client, int customerCount, int productCount, int maxLines) {
+        this.target = target;
+        this.client = client;
+        this.customerCount = customerCount;
+        this.productCount = productCount;
+        this.maxLines = maxLines;
+    }
+
+    /**
+     * Creates the customers, products and initial orders the mix operates on.
+     */
+    void seed() throws IOException, InterruptedException {
+        for (int i = 0; i < customerCount; i++) {
+            String name = NAME_PREFIXES[i % NAME_PREFIXES.length] + " Load " + i;
+            customerIds.add(create("/api/customers",
+                    "{\"name\":\"" + name + "\",\"email\":\"load-" + System.nanoTime() + "-" + i + "@example.com\"}"));
+        }
+        for (int i = 0; i < productCount; i++) {
+            productIds.add(create("/api/products",
+                    "{\"name\":\"Load product " + i + "\",\"description\":\"Seeded by the load test\"," +
+                            "\"price\":" + (1 + i % 100) + ".99,\"stockQuantity\":1000000000}"));
+        }
+        for (int i = 0; i < customerCount; i++) {
+            placedOrderIds.add(create("/api/orders", orderBody()));
+        }
+    }
+
+    /**
+     * Draws the next request from the mix.
+     */
+    Call next() {
+        int draw = ThreadLocalRandom.current().nextInt(100);
+        for (Endpoint endpoint : Endpoint.values()) {
+            if (draw < endpoint.weight) {
+                return call(endpoint);
+            }
+            draw -= endpoint.weight;
+        }
+        throw new IllegalStateException("weights must add up to 100");
+    }
+
+    /**
+     * Records the ID of an order placed by the mix, so that a later cancel can pick it up.
+     */
+    void onResponse(Call call, HttpResponse<byte[]> response) {
+        if (call.endpoint() == Endpoint.PLACE_ORDER && response.statusCode() == 201) {
+            try {
+                placedOrderIds.add(objectMapper.readTree(response.body()).get("id").asLong());
+            } catch (IOException e) {
+                // the request is still counted; only the cancel pool misses this order
+            }
+        }
+    }
+
+    private Call call(Endpoint endpoint) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return switch (endpoint) {
+            case CATALOG -> new Call(endpoint, get("/api/products"));
+            case PLACE_ORDER -> new Call(endpoint, post("/api/orders", orderBody()));
+            case CANCEL_ORDER -> {
+                Long orderId = placedOrderIds.poll();
+                yield orderId == null
+                        ? new Call(Endpoint.PLACE_ORDER, post("/api/orders", orderBody()))
+                        : new Call(endpoint, request("/api/orders/" + orderId + "/cancel")
+                                .PUT(HttpRequest.BodyPublishers.noBody()).build());
+            }
+            case SEARCH_CUSTOMERS -> new Call(endpoint, get("/api/customers?size=20&name="
+                    + NAME_PREFIXES[random.nextInt(NAME_PREFIXES.length)]));
+        };
+    }
+
+    private String orderBody() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int lines = 1 + random.nextInt(maxLines);
+        StringBuilder body = new StringBuilder("{\"customerId\":")
+                .append(customerIds.get(random.nextInt(customerIds.size())))
+                .append(",\"orderItems\":[");
+        for (int i = 0; i < lines; i++) {
+            if (i > 0) {
+                body.append(',');
+            }
+            body.append("{\"productId\":").append(productIds.get(random.nextInt(productIds.size())))
+                    .append(",\"quantity\":").append(1 + random.nextInt(3)).append('}');
+        }
+        return body.append("]}").toString();
+    }
+
+    private long create(String path, String body) throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = client.send(post(path, body), HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 201) {
+            throw new IllegalStateException("Seeding " + path + " failed with HTTP " + response.statusCode()
+                    + ": " + new String(response.body()));
+        }
+        JsonNode created = objectMapper.readTree(response.body());
+        return created.get("id").asLong();
+    }
+
+    private HttpRequest get(String path) {
+        return request(path).GET().build();
+    }
+
+    private HttpRequest post(String path, String body) {
+        return request(path)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(target.resolve(path)).timeout(TIMEOUT);
+    }
+}